@@ -0,0 +1,68 @@
+package ru.practicum.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.server.booking.BookingServiceImpl;
+import ru.practicum.server.booking.repository.BookingRepository;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingStateDispatchBenchmark {
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "rejected"})
+    private String state;
+
+    @Param({"false", "true"})
+    private boolean owner;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by("start").descending());
+
+    private BookingServiceImpl service;
+    private MethodHandle getBookingsByState;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        BookingRepository repository = (BookingRepository) Proxy.newProxyInstance(
+                BookingRepository.class.getClassLoader(),
+                new Class<?>[]{BookingRepository.class},
+                (proxy, method, args) -> List.class.isAssignableFrom(method.getReturnType())
+                        ? Collections.emptyList()
+                        : null);
+        service = new BookingServiceImpl(repository, null, null, null, null, new SimpleMeterRegistry(), true);
+        getBookingsByState = MethodHandles.privateLookupIn(BookingServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(BookingServiceImpl.class, "getBookingsByState", MethodType.methodType(
+                        List.class, Long.class, String.class, LocalDateTime.class, Pageable.class, boolean.class));
+    }
+
+    @Benchmark
+    public Object dispatch() throws Throwable {
+        return getBookingsByState.invoke(service, 1L, state, now, pageable, owner);
+    }
+}
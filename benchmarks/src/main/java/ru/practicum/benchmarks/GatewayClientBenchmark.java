@@ -0,0 +1,116 @@
+package ru.practicum.benchmarks;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import ru.practicum.gateway.base.ServerClientProperties;
+import ru.practicum.gateway.cache.ResponseCache;
+import ru.practicum.gateway.cache.ResponseCacheProperties;
+import ru.practicum.gateway.client.user.UserClient;
+import ru.practicum.gateway.config.HttpClientConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayClientBenchmark {
+
+    @Param({"false", "true"})
+    private boolean relay;
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    @Param({"1", "500"})
+    private int users;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private ClientHttpRequestFactory requestFactory;
+    private UserClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = usersJson(users);
+        stubExecutor = Executors.newFixedThreadPool(4);
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        ServerClientProperties clientProperties = new ServerClientProperties();
+        clientProperties.setRelay(relay);
+        ResponseCacheProperties cacheProperties = new ResponseCacheProperties();
+        if (cached) {
+            cacheProperties.getTtl().put(ResponseCache.USERS, Duration.ofHours(1));
+        }
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientConfig httpClientConfig = new HttpClientConfig();
+        requestFactory = httpClientConfig.serverRequestFactory(
+                httpClientConfig.serverConnectionManager(clientProperties, registry, false), clientProperties);
+        ResponseCache cache = new ResponseCache(cacheProperties, JsonMapper.builder().findAndAddModules().build(),
+                registry);
+
+        client = new UserClient("http://127.0.0.1:" + stub.getAddress().getPort(), new RestTemplateBuilder(),
+                requestFactory, cache, clientProperties);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (requestFactory instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getUserList() {
+        return client.getUserList();
+    }
+
+    private static byte[] usersJson(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= count; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"Пользователь ").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@example.com\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
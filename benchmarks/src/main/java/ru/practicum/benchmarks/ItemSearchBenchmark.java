@@ -0,0 +1,172 @@
+package ru.practicum.benchmarks;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.server.config.FlywayConfig;
+import ru.practicum.server.item.repository.ItemRepository;
+import ru.practicum.server.item.search.ItemSearchIndex;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchBenchmark {
+
+    private static final int VOCABULARY = 5_000;
+    private static final int PAGE_SIZE = 10;
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+
+    @Param({"10000", "100000", "1000000"})
+    private int items;
+
+    @Param({"frequent", "rare", "two-words"})
+    private String query;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private ItemSearchIndex index;
+    private String text;
+    private PreparedStatement fullText;
+    private PreparedStatement like;
+    private PreparedStatement byIds;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration", FlywayConfig.RANGE_TYPE_MIGRATIONS)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+        connection = postgres.getPostgresDatabase().getConnection();
+        seed();
+
+        index = new ItemSearchIndex();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, name, description FROM items ORDER BY id")) {
+            while (rows.next()) {
+                index.put(rows.getLong(1), rows.getString(2), rows.getString(3), true);
+            }
+        }
+
+        text = switch (query) {
+            case "frequent" -> "слово0";
+            case "rare" -> "слово" + (VOCABULARY - 1);
+            default -> "слово1 слово2";
+        };
+
+        fullText = prepare("searchItemRanked", Map.of(
+                "text", text,
+                "pattern", "%" + text + "%",
+                "from", 0,
+                "size", PAGE_SIZE));
+        like = prepare("searchItem", Map.of(
+                "text", text,
+                "from", 0,
+                "size", PAGE_SIZE));
+        byIds = connection.prepareStatement("SELECT id, name, description, available, owner_id, request_id " +
+                "FROM items WHERE id = ANY (?)");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<Long> index() throws SQLException {
+        long[] ids = index.search(text);
+        Long[] page = Arrays.stream(ids, 0, Math.min(ids.length, PAGE_SIZE)).boxed().toArray(Long[]::new);
+        byIds.setArray(1, connection.createArrayOf("bigint", page));
+        return read(byIds);
+    }
+
+    @Benchmark
+    public List<Long> fullText() throws SQLException {
+        return read(fullText);
+    }
+
+    @Benchmark
+    public List<Long> like() throws SQLException {
+        return read(like);
+    }
+
+    private void seed() throws SQLException {
+        String word = "'слово' || floor(" + VOCABULARY + " * power(random(), 3))::int";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (name, email) VALUES ('owner', 'owner@shareit.test')");
+            statement.execute("SELECT setseed(0.42)");
+            statement.execute("INSERT INTO items (name, description, owner_id) " +
+                    "SELECT " + word + " || ' ' || " + word + ", " +
+                    "(SELECT string_agg(" + word + ", ' ') FROM generate_series(1, 8) WHERE g > 0), " +
+                    "(SELECT MIN(id) FROM users) " +
+                    "FROM generate_series(1, " + items + ") g");
+            statement.execute("VACUUM ANALYZE items");
+        }
+    }
+
+    private PreparedStatement prepare(String method, Map<String, Object> parameters) throws SQLException {
+        String sql = Arrays.stream(ItemRepository.class.getMethods())
+                .filter(candidate -> candidate.getName().equals(method))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+
+        List<Object> values = new ArrayList<>();
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder jdbc = new StringBuilder();
+        while (matcher.find()) {
+            values.add(parameters.get(matcher.group(1)));
+            matcher.appendReplacement(jdbc, "?");
+        }
+        matcher.appendTail(jdbc);
+
+        PreparedStatement statement = connection.prepareStatement(jdbc.toString());
+        for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 1, values.get(i));
+        }
+        return statement;
+    }
+
+    private static List<Long> read(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
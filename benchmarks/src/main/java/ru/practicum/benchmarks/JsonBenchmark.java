@@ -0,0 +1,104 @@
+package ru.practicum.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.dto.booking.BookingDto;
+import ru.practicum.dto.booking.status.Status;
+import ru.practicum.dto.comment.CommentDto;
+import ru.practicum.dto.item.ItemDto;
+import ru.practicum.dto.user.UserDto;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+    private ItemDto item;
+    private BookingDto booking;
+    private byte[] itemJson;
+    private byte[] bookingJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        UserDto booker = new UserDto(4L, "Пётр", "petr@example.com");
+        BookingDto lastBooking = BookingDto.builder()
+                .id(10L)
+                .start(now.minusDays(2))
+                .end(now.minusDays(1))
+                .booker(booker)
+                .status(Status.APPROVED)
+                .build();
+        List<CommentDto> comments = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            comments.add(new CommentDto(i, "Отличная дрель", "Пётр", 1L, 4L,
+                    Instant.parse("2024-06-01T12:00:00Z")));
+        }
+        item = ItemDto.builder()
+                .id(1L)
+                .name("Дрель")
+                .description("Аккумуляторная дрель с двумя батареями")
+                .available(true)
+                .owner(2L)
+                .lastBooking(lastBooking)
+                .comments(comments)
+                .build();
+        booking = BookingDto.builder()
+                .id(11L)
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .booker(booker)
+                .item(ItemDto.builder().id(1L).name("Дрель").available(true).owner(2L).build())
+                .status(Status.WAITING)
+                .build();
+        itemJson = mapper.writeValueAsBytes(item);
+        bookingJson = mapper.writeValueAsBytes(booking);
+    }
+
+    @Benchmark
+    public byte[] writeItem() throws IOException {
+        return mapper.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public ItemDto readItem() throws IOException {
+        return mapper.readValue(itemJson, ItemDto.class);
+    }
+
+    @Benchmark
+    public ItemDto roundTripItem() throws IOException {
+        return mapper.readValue(mapper.writeValueAsBytes(item), ItemDto.class);
+    }
+
+    @Benchmark
+    public BookingDto roundTripBooking() throws IOException {
+        return mapper.readValue(mapper.writeValueAsBytes(booking), BookingDto.class);
+    }
+
+    @Benchmark
+    public Object readBookingAsMap() throws IOException {
+        return mapper.readValue(bookingJson, Object.class);
+    }
+}
@@ -0,0 +1,143 @@
+package ru.practicum.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.dto.comment.CommentDto;
+import ru.practicum.logging.RateLimitingTurboFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String LOGGER = "ru.practicum.server.item.ItemServiceImpl";
+    private static final String PATTERN = "ts=%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX,UTC} level=%level thread=%thread "
+            + "logger=%logger{40} msg=\"%replace(%replace(%msg){'\"','\\\\\"'}){'[\\r\\n]+',' '}\"%n%ex";
+
+    @Param({"sync", "async", "async-sampled"})
+    private String pipeline;
+
+    private final Long userId = 7L;
+    private final Long itemId = 42L;
+    private final Long bookingId = 1001L;
+    private final LocalDateTime start = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private final LocalDateTime end = LocalDateTime.of(2024, 5, 3, 10, 0);
+
+    private LoggerContext context;
+    private Logger log;
+    private File target;
+    private CommentDto comment;
+
+    @Setup
+    public void setUp() throws IOException {
+        target = Files.createTempFile("logging-benchmark", ".log").toFile();
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(target.getAbsolutePath());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (pipeline.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+        if (pipeline.equals("async-sampled")) {
+            RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+            filter.setContext(context);
+            filter.setLoggers("ru.practicum.server.item");
+            filter.setEventsPerSecond(50);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        log = context.getLogger(LOGGER);
+
+        comment = CommentDto.builder()
+                .id(11L)
+                .text("Отличная дрель, всё работает")
+                .authorName("Иван")
+                .itemId(itemId)
+                .authorId(userId)
+                .created(Instant.now())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        target.delete();
+    }
+
+    @Benchmark
+    public void addCommentVerbose() {
+        log.info("========== ДОБАВЛЕНИЕ КОММЕНТАРИЯ ==========");
+        log.info("Добавление комментария к вещи с ID={} от пользователя с ID={}", itemId, userId);
+        log.info("Текст комментария: {}", comment.getText());
+        log.info("Автор найден: {} (ID={})", comment.getAuthorName(), userId);
+        log.info("Вещь найдена: {} (ID={})", "Дрель", itemId);
+        log.info("Текущее время: {}", end);
+        log.info("APPROVED бронирований пользователя {} для вещи {}: {}", userId, itemId, 1);
+        log.info("Бронирование: ID={}, статус={}, start={}, end={}, PAST? {}",
+                bookingId, "APPROVED", start, end, true);
+        log.info("✅ Найдено PAST (завершённое) бронирование с ID={}", bookingId);
+        log.info("✅ Есть завершённое бронирование - создаём комментарий");
+        log.info("✅ Комментарий сохранён с ID: {}", comment.getId());
+        log.info("✅ Добавлен комментарий: {}", comment);
+    }
+
+    @Benchmark
+    public void addCommentCompact() {
+        log.info("Добавление комментария к вещи с ID={} от пользователя с ID={}", itemId, userId);
+        log.debug("APPROVED бронирований пользователя {} для вещи {}: {}", userId, itemId, 1);
+        log.debug("Бронирование: ID={}, start={}, end={}, PAST? {}", bookingId, start, end, true);
+        log.info("Комментарий {} к вещи {} сохранён", comment.getId(), itemId);
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.benchmarks;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.dto.booking.BookingDto;
+import ru.practicum.dto.booking.status.Status;
+import ru.practicum.dto.comment.CommentDto;
+import ru.practicum.dto.item.ItemDto;
+import ru.practicum.server.booking.mapper.BookingMapper;
+import ru.practicum.server.booking.model.Booking;
+import ru.practicum.server.item.comment.mapper.CommentMapper;
+import ru.practicum.server.item.comment.model.Comment;
+import ru.practicum.server.item.mapper.ItemMapper;
+import ru.practicum.server.item.model.Item;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ItemMapper itemMapper = Mappers.getMapper(ItemMapper.class);
+    private final BookingMapper bookingMapper = Mappers.getMapper(BookingMapper.class);
+    private final CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+
+    private Item item;
+    private Booking booking;
+    private Comment comment;
+    private BookingDto lastBooking;
+    private BookingDto nextBooking;
+    private List<CommentDto> comments;
+    private List<Booking> bookingPage;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        item = Item.builder()
+                .id(1L)
+                .name("Дрель")
+                .description("Аккумуляторная дрель с двумя батареями")
+                .available(true)
+                .owner(2L)
+                .request(3L)
+                .build();
+        booking = Booking.builder()
+                .id(10L)
+                .start(now.minusDays(2))
+                .end(now.minusDays(1))
+                .booker(4L)
+                .item(1L)
+                .status(Status.APPROVED)
+                .build();
+        comment = Comment.builder()
+                .id(20L)
+                .text("Отличная дрель")
+                .itemId(1L)
+                .authorId(4L)
+                .created(Instant.parse("2024-06-01T12:00:00Z"))
+                .build();
+
+        lastBooking = bookingMapper.toDto(booking);
+        nextBooking = bookingMapper.toDto(booking);
+        comments = new ArrayList<>();
+        bookingPage = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            comments.add(commentMapper.toDto(comment));
+            bookingPage.add(booking);
+        }
+    }
+
+    @Benchmark
+    public ItemDto itemToDto() {
+        return itemMapper.toDto(item);
+    }
+
+    @Benchmark
+    public ItemDto itemToDtoWithDetails() {
+        return itemMapper.toDto(item, lastBooking, nextBooking, comments);
+    }
+
+    @Benchmark
+    public BookingDto bookingToDto() {
+        return bookingMapper.toDto(booking);
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingPageToDtoList() {
+        return bookingMapper.toDtoList(bookingPage);
+    }
+
+    @Benchmark
+    public CommentDto commentToDto() {
+        return commentMapper.toDto(comment);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.dto.booking.status.Status;
+import ru.practicum.dto.exception.ValidationException;
+import ru.practicum.server.user.model.User;
+import ru.practicum.server.validation.ValidationTool;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final String LEVEL = "Server Level: ItemService";
+
+    @Param({"ALL", "rejected", "UNKNOWN"})
+    private String state;
+
+    private final User validUser = User.builder().id(1L).name("Иван").email("ivan@example.com").build();
+    private final User invalidUser = User.builder().id(2L).name("Иван").email("ivan.example.com").build();
+    private final Long validId = 42L;
+    private final Long invalidId = 0L;
+
+    @Benchmark
+    public void checkIdValid() {
+        ValidationTool.checkId(validId, LEVEL, "некорректный id");
+    }
+
+    @Benchmark
+    public void checkIdInvalid(Blackhole blackhole) {
+        try {
+            ValidationTool.checkId(invalidId, LEVEL, "некорректный id");
+        } catch (ValidationException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void userCheckValid() {
+        ValidationTool.userCheck(validUser, LEVEL);
+    }
+
+    @Benchmark
+    public void userCheckInvalid(Blackhole blackhole) {
+        try {
+            ValidationTool.userCheck(invalidUser, LEVEL);
+        } catch (ValidationException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Optional<Status> statusFrom() {
+        return Status.from(state);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.dto.booking;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingApprovalDto {
+
+    Long bookingId;
+    Boolean approved;
+}
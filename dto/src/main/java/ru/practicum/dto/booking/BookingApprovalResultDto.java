@@ -0,0 +1,19 @@
+package ru.practicum.dto.booking;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.dto.booking.status.Status;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingApprovalResultDto {
+
+    Long bookingId;
+    Status status;
+    String error;
+}
@@ -0,0 +1,20 @@
+package ru.practicum.dto.booking;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.dto.booking.status.Status;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingSummaryDto {
+
+    Map<Status, Long> counts;
+    Status state;
+    List<BookingDto> bookings;
+}
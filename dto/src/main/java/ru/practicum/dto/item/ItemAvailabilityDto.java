@@ -0,0 +1,20 @@
+package ru.practicum.dto.item;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemAvailabilityDto {
+
+    Long itemId;
+    LocalDateTime from;
+    LocalDateTime to;
+    List<TimeSlotDto> freeSlots;
+}
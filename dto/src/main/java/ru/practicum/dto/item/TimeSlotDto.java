@@ -0,0 +1,17 @@
+package ru.practicum.dto.item;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TimeSlotDto {
+
+    LocalDateTime start;
+    LocalDateTime end;
+}
@@ -1,19 +1,60 @@
 package ru.practicum.gateway.base;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.gateway.cache.CacheKey;
+import ru.practicum.gateway.cache.ResponseCache;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class BaseClient {
 
+    private static final RelayBufferPool RELAY_BUFFERS = new RelayBufferPool(64, 64 * 1024);
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            "keep-alive"
+    );
+
     protected final RestTemplate rest;
+    @Nullable
+    private final ResponseCache cache;
+    @Nullable
+    private final String route;
+    private final boolean relay;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, null, null, false);
+    }
+
+    public BaseClient(RestTemplate rest, @Nullable ResponseCache cache, @Nullable String route, boolean relay) {
         this.rest = rest;
+        this.cache = cache;
+        this.route = route;
+        this.relay = relay;
+    }
+
+    protected void evict(String route) {
+        if (cache != null) {
+            cache.invalidate(route);
+        }
+    }
+
+    protected void evict(String route, String path) {
+        if (cache != null) {
+            cache.invalidate(route, path);
+        }
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -85,9 +126,69 @@ public class BaseClient {
         return rest.exchange(path, HttpMethod.GET, requestEntity, Object.class);
     }
 
+    protected void stream(HttpMethod method, String path, long userId, MediaType contentType,
+                          InputStream body, HttpServletResponse response) throws IOException {
+        RequestCallback callback = request -> {
+            request.getHeaders().setContentType(contentType);
+            request.getHeaders().setAccept(List.of(contentType, MediaType.APPLICATION_JSON));
+            request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+            if (request instanceof StreamingHttpOutputMessage streaming) {
+                streaming.setBody(body::transferTo);
+            } else {
+                body.transferTo(request.getBody());
+            }
+        };
+        ResponseExtractor<Void> extractor = upstream -> {
+            relayStatus(upstream.getStatusCode(), upstream.getHeaders(), response);
+            OutputStream out = response.getOutputStream();
+            InputStream in = upstream.getBody();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+            return null;
+        };
+        try {
+            rest.execute(path, method, callback, extractor);
+        } catch (HttpStatusCodeException e) {
+            relayStatus(e.getStatusCode(), e.getResponseHeaders(), response);
+            response.getOutputStream().write(e.getResponseBodyAsByteArray());
+        }
+    }
+
+    private static void relayStatus(HttpStatusCode status, @Nullable HttpHeaders headers,
+                                    HttpServletResponse response) {
+        response.setStatus(status.value());
+        relayHeaders(headers).forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
+        if (method != HttpMethod.GET || cache == null || !cache.isCached(route)) {
+            return exchange(method, path, requestEntity, parameters);
+        }
+
+        CacheKey key = CacheKey.of(route, path, userId, parameters);
+        ResponseEntity<Object> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation(route);
+        return cache.put(key, generation, exchange(method, path, requestEntity, parameters));
+    }
+
+    private <T> ResponseEntity<Object> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                @Nullable Map<String, Object> parameters) {
+        if (relay) {
+            return relay(method, path, requestEntity, parameters);
+        }
+
         ResponseEntity<Object> shareitServerResponse;
         try {
             if (parameters != null) {
@@ -101,6 +202,37 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private <T> ResponseEntity<Object> relay(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                             @Nullable Map<String, Object> parameters) {
+        RequestCallback callback = rest.httpEntityCallback(requestEntity);
+        ResponseExtractor<ResponseEntity<Object>> extractor = response -> ResponseEntity
+                .status(response.getStatusCode())
+                .headers(relayHeaders(response.getHeaders()))
+                .body(RELAY_BUFFERS.read(response.getBody(), response.getHeaders().getContentLength()));
+        try {
+            if (parameters != null) {
+                return rest.execute(path, method, callback, extractor, parameters);
+            }
+            return rest.execute(path, method, callback, extractor);
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(relayHeaders(e.getResponseHeaders()))
+                    .body(e.getResponseBodyAsByteArray());
+        }
+    }
+
+    private static HttpHeaders relayHeaders(@Nullable HttpHeaders upstream) {
+        HttpHeaders headers = new HttpHeaders();
+        if (upstream != null) {
+            upstream.forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                    headers.put(name, values);
+                }
+            });
+        }
+        return headers;
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,41 @@
+package ru.practicum.gateway.base;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+class RelayBufferPool {
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> buffers;
+
+    RelayBufferPool(int capacity, int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    byte[] read(InputStream body, long contentLength) throws IOException {
+        if (contentLength >= 0 && contentLength <= Integer.MAX_VALUE) {
+            return body.readNBytes((int) contentLength);
+        }
+
+        byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new byte[bufferSize];
+        }
+        try {
+            int read = body.readNBytes(buffer, 0, buffer.length);
+            if (read < buffer.length) {
+                return Arrays.copyOf(buffer, read);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(buffer.length * 2);
+            out.write(buffer, 0, read);
+            body.transferTo(out);
+            return out.toByteArray();
+        } finally {
+            buffers.offer(buffer);
+        }
+    }
+}
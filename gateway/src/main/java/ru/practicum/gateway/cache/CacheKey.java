@@ -0,0 +1,20 @@
+package ru.practicum.gateway.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public record CacheKey(String route, String path, String query, @Nullable Long viewerId) {
+
+    public static CacheKey of(String route, String template, @Nullable Long userId,
+                              @Nullable Map<String, Object> parameters) {
+        int queryStart = template.indexOf('?');
+        String path = queryStart < 0 ? template : template.substring(0, queryStart);
+        String query = queryStart < 0 ? "" : template.substring(queryStart + 1);
+        if (parameters != null && !parameters.isEmpty()) {
+            query = query + new TreeMap<>(parameters);
+        }
+        return new CacheKey(route, path, query, userId);
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+record CachedResponse(HttpHeaders headers, byte[] body, String etag, long expiresAt) {
+
+    boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    ResponseEntity<Object> toResponse() {
+        return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(etag)
+                .body(body);
+    }
+}
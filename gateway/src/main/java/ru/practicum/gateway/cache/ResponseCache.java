@@ -0,0 +1,186 @@
+package ru.practicum.gateway.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class ResponseCache {
+
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+    public static final String BOOKINGS = "bookings";
+    public static final String REQUESTS = "requests";
+
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.DATE,
+            HttpHeaders.ETAG,
+            "Keep-Alive"
+    );
+
+    private final ResponseCacheProperties properties;
+    private final ObjectMapper mapper;
+    private final MeterRegistry registry;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<CacheKey, CachedResponse> entries;
+
+    public ResponseCache(ResponseCacheProperties properties, ObjectMapper mapper, MeterRegistry registry) {
+        this.properties = properties;
+        this.mapper = mapper;
+        this.registry = registry;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResponse> eldest) {
+                if (size() <= properties.getMaxEntries()) {
+                    return false;
+                }
+                countEviction(eldest.getKey().route(), "size");
+                return true;
+            }
+        };
+        Gauge.builder("gateway.cache.size", this, ResponseCache::entryCount)
+                .description("Количество ответов в кэше шлюза")
+                .register(registry);
+    }
+
+    public boolean isCached(@Nullable String route) {
+        if (!properties.isEnabled() || route == null) {
+            return false;
+        }
+        Duration ttl = properties.getTtl().get(route);
+        return ttl != null && ttl.isPositive();
+    }
+
+    public long generation(String route) {
+        return generationOf(route).get();
+    }
+
+    @Nullable
+    public ResponseEntity<Object> get(CacheKey key) {
+        CachedResponse cached;
+        lock.lock();
+        try {
+            cached = entries.get(key);
+            if (cached != null && cached.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                countEviction(key.route(), "expired");
+                cached = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        registry.counter("gateway.cache.requests", "route", key.route(), "result", cached == null ? "miss" : "hit")
+                .increment();
+        return cached == null ? null : cached.toResponse();
+    }
+
+    public ResponseEntity<Object> put(CacheKey key, long generation, ResponseEntity<Object> response) {
+        if (response.getStatusCode() != HttpStatus.OK) {
+            return response;
+        }
+
+        byte[] body;
+        try {
+            body = serialize(response.getBody());
+        } catch (JsonProcessingException e) {
+            log.warn("Не удалось сериализовать ответ для кэша {}: {}", key, e.getMessage());
+            return response;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            if (SKIPPED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.addAll(name, values);
+            }
+        });
+        if (headers.getContentType() == null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        long ttl = properties.getTtl().get(key.route()).toNanos();
+        CachedResponse cached = new CachedResponse(headers, body, etag(body), System.nanoTime() + ttl);
+
+        lock.lock();
+        try {
+            if (generation(key.route()) == generation) {
+                entries.put(key, cached);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return cached.toResponse();
+    }
+
+    public void invalidate(String route) {
+        invalidate(route, null);
+    }
+
+    public void invalidate(String route, @Nullable String path) {
+        lock.lock();
+        try {
+            generationOf(route).incrementAndGet();
+            Iterator<CacheKey> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                CacheKey key = keys.next();
+                if (key.route().equals(route) && (path == null || key.path().equals(path))) {
+                    keys.remove();
+                    countEviction(route, "invalidated");
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int entryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AtomicLong generationOf(String route) {
+        return generations.computeIfAbsent(route, r -> new AtomicLong());
+    }
+
+    private byte[] serialize(@Nullable Object body) throws JsonProcessingException {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        return mapper.writeValueAsBytes(body);
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private void countEviction(String route, String cause) {
+        registry.counter("gateway.cache.evictions", "route", route, "cause", cause).increment();
+    }
+}
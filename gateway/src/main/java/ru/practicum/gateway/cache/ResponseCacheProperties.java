@@ -0,0 +1,19 @@
+package ru.practicum.gateway.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    private Map<String, Duration> ttl = new HashMap<>();
+}
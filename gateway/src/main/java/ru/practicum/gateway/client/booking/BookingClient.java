@@ -4,13 +4,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.dto.booking.BookingApprovalDto;
 import ru.practicum.dto.booking.RequestBookingDto;
 import ru.practicum.dto.booking.status.Status;
 import ru.practicum.gateway.base.BaseClient;
+import ru.practicum.gateway.base.ServerClientProperties;
+import ru.practicum.gateway.cache.ResponseCache;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -19,47 +24,78 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory, ResponseCache cache,
+                         ServerClientProperties properties) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                cache,
+                ResponseCache.BOOKINGS,
+                properties.isRelay()
         );
     }
 
     public ResponseEntity<Object> createBooking(RequestBookingDto bookingRequestDto, Long userId) {
-        return post("", userId, bookingRequestDto);
+        return evictBookings(post("", userId, bookingRequestDto));
     }
 
     public ResponseEntity<Object> approveBooking(Long bookingId, Boolean approved, Long userId) {
         Map<String, Object> parameters = Map.of("approved", approved);
-        return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+        return evictBookings(patch("/" + bookingId + "?approved={approved}", userId, parameters, null));
+    }
+
+    public ResponseEntity<Object> approveBookings(List<BookingApprovalDto> approvals, Long userId) {
+        return evictBookings(patch("/approve", userId, approvals));
     }
 
     public ResponseEntity<Object> getBookingById(Long bookingId, Long userId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getUserBookings(Long userId, Status state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getUserBookings(Long userId, Status state, Integer from, Integer size, String cursor) {
+        return getPage("", userId, pageParameters(state, from, size, cursor), cursor);
     }
 
-    public ResponseEntity<Object> getOwnerBookings(Long ownerId, Status state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", ownerId, parameters);
+    public ResponseEntity<Object> getOwnerBookings(Long ownerId, Status state, Integer from, Integer size, String cursor) {
+        return getPage("/owner", ownerId, pageParameters(state, from, size, cursor), cursor);
+    }
+
+    public ResponseEntity<Object> getUserBookingSummary(Long userId, Status state, Integer size) {
+        return get("/summary?state={state}&size={size}", userId, Map.of("state", state.name(), "size", size));
+    }
+
+    public ResponseEntity<Object> getOwnerBookingSummary(Long ownerId, Status state, Integer size) {
+        return get("/owner/summary?state={state}&size={size}", ownerId, Map.of("state", state.name(), "size", size));
     }
 
     public ResponseEntity<Object> deleteBooking(long userId, Long bookingId) {
-        return delete("/" + bookingId, userId);
+        return evictBookings(delete("/" + bookingId, userId));
+    }
+
+    private ResponseEntity<Object> evictBookings(ResponseEntity<Object> response) {
+        evict(ResponseCache.BOOKINGS);
+        evict(ResponseCache.ITEMS);
+        return response;
+    }
+
+    private ResponseEntity<Object> getPage(String path, Long userId, Map<String, Object> parameters, String cursor) {
+        if (cursor != null) {
+            return get(path + "?state={state}&size={size}&cursor={cursor}", userId, parameters);
+        }
+        return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    private static Map<String, Object> pageParameters(Status state, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
     }
 }
\ No newline at end of file
@@ -6,9 +6,12 @@ import org.springframework.web.bind.annotation.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.dto.booking.BookingApprovalDto;
 import ru.practicum.dto.booking.RequestBookingDto;
 import ru.practicum.dto.booking.status.Status;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -21,10 +24,19 @@ public class BookingController {
     public ResponseEntity<Object> createBooking(
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @Valid @RequestBody RequestBookingDto bookingRequestDto) {
-        log.info("Creating booking {}, userId={}", bookingRequestDto, userId);
+        log.info("Creating booking for item {}, userId={}", bookingRequestDto.getItem(), userId);
+        log.debug("Booking request {}", bookingRequestDto);
         return bookingClient.createBooking(bookingRequestDto, userId);
     }
 
+    @PatchMapping("/approve")
+    public ResponseEntity<Object> approveBookings(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestBody List<BookingApprovalDto> approvals) {
+        log.info("Bulk approval of {} bookings, userId={}", approvals.size(), userId);
+        return bookingClient.approveBookings(approvals, userId);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Object> approveBooking(
             @RequestHeader("X-Sharer-User-Id") Long userId,
@@ -45,10 +57,11 @@ public class BookingController {
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
         Status status = Status.from(state)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
-        return bookingClient.getUserBookings(userId, status, from, size);
+        return bookingClient.getUserBookings(userId, status, from, size, cursor);
     }
 
     @GetMapping("/owner")
@@ -56,10 +69,31 @@ public class BookingController {
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        Status status = Status.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        return bookingClient.getOwnerBookings(ownerId, status, from, size, cursor);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<Object> getUserBookingSummary(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "10") Integer size) {
+        Status status = Status.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        return bookingClient.getUserBookingSummary(userId, status, size);
+    }
+
+    @GetMapping("/owner/summary")
+    public ResponseEntity<Object> getOwnerBookingSummary(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "10") Integer size) {
         Status status = Status.from(state)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
-        return bookingClient.getOwnerBookings(ownerId, status, from, size);
+        return bookingClient.getOwnerBookingSummary(ownerId, status, size);
     }
 
     @DeleteMapping("/{bookingId}")
@@ -1,18 +1,27 @@
 package ru.practicum.gateway.client.item;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 
 import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.dto.comment.CommentDto;
 import ru.practicum.dto.item.ItemDto;
 import ru.practicum.gateway.base.BaseClient;
-
+import ru.practicum.gateway.base.ServerClientProperties;
+import ru.practicum.gateway.cache.ResponseCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,12 +29,17 @@ public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, ResponseCache cache,
+                      ServerClientProperties properties) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                cache,
+                ResponseCache.ITEMS,
+                properties.isRelay()
         );
     }
 
@@ -39,38 +53,91 @@ public class ItemClient extends BaseClient {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> searchText(String text) {
+    public ResponseEntity<Object> searchText(Long userId, String text, Integer from, Integer size) {
         log.info("Отправка запроса на поиск вещей по тексту: {}", text);
-        if (text == null || text.isBlank()) {
-            return get("/search");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text == null ? "" : text);
+        StringBuilder path = new StringBuilder("/search?text={text}");
+        if (from != null) {
+            parameters.put("from", from);
+            path.append("&from={from}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            path.append("&size={size}");
         }
-        return get("/search?text=" + text);
+        return get(path.toString(), userId, parameters);
+    }
+
+    public ResponseEntity<Object> getItemAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to) {
+        log.info("Отправка запроса на получение свободных периодов вещи с ID={}", itemId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> getItemsAvailability(List<Long> itemIds, Long userId,
+                                                       LocalDateTime from, LocalDateTime to) {
+        log.info("Отправка запроса на получение свободных периодов вещей с ID={}", itemIds);
+        Map<String, Object> parameters = Map.of(
+                "ids", itemIds.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                "from", from,
+                "to", to
+        );
+        return get("/availability?ids={ids}&from={from}&to={to}", userId, parameters);
     }
 
     public ResponseEntity<Object> create(Long userId, ItemDto itemDto) {
-        log.info("Отправка запроса на создание новой вещи для пользователя с ID={}, данные: {}", userId, itemDto);
-        return post("", userId, itemDto);
+        log.info("Отправка запроса на создание новой вещи для пользователя с ID={}", userId);
+        log.debug("Данные новой вещи: {}", itemDto);
+        ResponseEntity<Object> response = post("", userId, itemDto);
+        evict(ResponseCache.ITEMS);
+        if (itemDto.getRequest() != null) {
+            evict(ResponseCache.REQUESTS);
+        }
+        return response;
+    }
+
+    public void createBulk(Long userId, InputStream body, HttpServletResponse response) throws IOException {
+        log.info("Отправка потока пакетного импорта вещей для пользователя с ID={}", userId);
+        try {
+            stream(HttpMethod.POST, "/bulk", userId, MediaType.APPLICATION_NDJSON, body, response);
+        } finally {
+            evict(ResponseCache.ITEMS);
+            evict(ResponseCache.REQUESTS);
+        }
     }
 
     public ResponseEntity<Object> update(Long itemId, Long userId, Map<String, Object> updates) {
-        log.info("Отправка запроса на обновление вещи с ID={} для пользователя с ID={}, данные: {}", itemId, userId, updates);
-        return patch("/" + itemId, userId, updates);
+        log.info("Отправка запроса на обновление вещи с ID={} для пользователя с ID={}", itemId, userId);
+        log.debug("Изменения вещи {}: {}", itemId, updates);
+        ResponseEntity<Object> response = patch("/" + itemId, userId, updates);
+        evict(ResponseCache.ITEMS);
+        evict(ResponseCache.REQUESTS);
+        evict(ResponseCache.BOOKINGS);
+        return response;
     }
 
     public ResponseEntity<Object> addComment(Long itemId, Long userId, CommentDto commentDto) {
-        log.info("Отправка запроса на добавление комментария к вещи с ID={} от пользователя с ID={}, текст: {}",
-                itemId, userId, commentDto.getText());
-        return post("/" + itemId + "/comment", userId, commentDto);
-
+        log.info("Отправка запроса на добавление комментария к вещи с ID={} от пользователя с ID={}", itemId, userId);
+        ResponseEntity<Object> response = post("/" + itemId + "/comment", userId, commentDto);
+        evict(ResponseCache.ITEMS);
+        return response;
     }
 
     public ResponseEntity<Object> deleteItem(Long itemId) {
-        return delete("/" + itemId);
+        ResponseEntity<Object> response = delete("/" + itemId);
+        evict(ResponseCache.ITEMS);
+        evict(ResponseCache.REQUESTS);
+        evict(ResponseCache.BOOKINGS);
+        return response;
     }
 
     public ResponseEntity<Object> getItemDtoWithBookingsAndComments(Long itemId, Long userId) {
         log.info("Запрос информации о вещи с ID={} для пользователя {}", itemId, userId);
-        log.debug("Полный URL: {}/{}", rest.getUriTemplateHandler().toString(), itemId);
+        log.debug("Полный URL: {}/{}", rest.getUriTemplateHandler(), itemId);
 
         ResponseEntity<Object> response = getWithHeaders("/" + itemId, userId);
 
@@ -1,13 +1,20 @@
 package ru.practicum.gateway.client.item;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.comment.CommentDto;
 import ru.practicum.dto.item.ItemDto;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -32,8 +39,31 @@ public class ItemController {
 
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> searchText(@RequestParam("text") String text) {
-        return itemClient.searchText(text);
+    public ResponseEntity<Object> searchText(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                             @RequestParam("text") String text,
+                                             @RequestParam(required = false) Integer from,
+                                             @RequestParam(required = false) Integer size) {
+        return itemClient.searchText(userId, text, from, size);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<Object> getItemAvailability(
+            @PathVariable Long itemId,
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return itemClient.getItemAvailability(itemId, userId, from, to);
+    }
+
+    @GetMapping("/availability")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<Object> getItemsAvailability(
+            @RequestParam List<Long> ids,
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return itemClient.getItemsAvailability(ids, userId, from, to);
     }
 
     @PostMapping
@@ -43,6 +73,13 @@ public class ItemController {
         return itemClient.create(userId, itemDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createBulk(@RequestHeader("X-Sharer-User-Id") Long userId,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        itemClient.createBulk(userId, request.getInputStream(), response);
+    }
+
     @PatchMapping("/{itemId}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<Object> update(@PathVariable Long itemId,
@@ -5,11 +5,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.dto.request.ItemRequestDto;
 import ru.practicum.gateway.base.BaseClient;
+import ru.practicum.gateway.base.ServerClientProperties;
+import ru.practicum.gateway.cache.ResponseCache;
 
 import java.util.Map;
 
@@ -20,12 +22,17 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory requestFactory, ResponseCache cache,
+                             ServerClientProperties properties) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                cache,
+                ResponseCache.REQUESTS,
+                properties.isRelay()
         );
     }
 
@@ -39,17 +46,27 @@ public class ItemRequestClient extends BaseClient {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAllRequests(Long userId, Integer from, Integer size) {
+    public ResponseEntity<Object> getAllRequests(Long userId, Integer from, Integer size, String cursor) {
         log.info("Отправка запроса на получение всех запросов вещей, кроме пользователя с ID={}, начиная с {} по {}", userId, from, size);
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("/all?size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
         );
-        return get("/all", userId, parameters);
+        return get("/all?from={from}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> createRequest(Long userId, ItemRequestDto itemRequestDto) {
-        log.info("Отправка запроса на создание нового запроса вещи от пользователя с ID={}, данные: {}", userId, itemRequestDto);
-        return post("", userId, itemRequestDto);
+        log.info("Отправка запроса на создание нового запроса вещи от пользователя с ID={}", userId);
+        log.debug("Данные запроса вещи: {}", itemRequestDto);
+        ResponseEntity<Object> response = post("", userId, itemRequestDto);
+        evict(ResponseCache.REQUESTS);
+        return response;
     }
 }
\ No newline at end of file
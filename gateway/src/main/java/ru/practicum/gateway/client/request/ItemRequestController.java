@@ -32,8 +32,9 @@ public class ItemRequestController {
     public ResponseEntity<Object> getAllRequests(
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
-        return itemRequestClient.getAllRequests(userId, from, size);
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        return itemRequestClient.getAllRequests(userId, from, size, cursor);
     }
 
     @PostMapping
@@ -5,11 +5,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.dto.user.UserDto;
 import ru.practicum.gateway.base.BaseClient;
+import ru.practicum.gateway.base.ServerClientProperties;
+import ru.practicum.gateway.cache.ResponseCache;
 
 @Slf4j
 @Service
@@ -18,12 +20,17 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, ResponseCache cache,
+                      ServerClientProperties properties) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory()) // Возвращаем HttpComponents
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                cache,
+                ResponseCache.USERS,
+                properties.isRelay()
         );
     }
 
@@ -38,17 +45,31 @@ public class UserClient extends BaseClient {
     }
 
     public ResponseEntity<Object> create(UserDto userDto) {
-        log.info("Отправка запроса на создание пользователя: {}", userDto);
-        return post("", userDto);
+        log.info("Отправка запроса на создание пользователя");
+        log.debug("Данные нового пользователя: {}", userDto);
+        ResponseEntity<Object> response = post("", userDto);
+        evict(ResponseCache.USERS, "");
+        return response;
     }
 
     public ResponseEntity<Object> update(Long userId, UserDto userDto) {
-        log.info("Отправка запроса на обновление пользователя с ID={}, данные: {}", userId, userDto);
-        return patch("/" + userId, userDto);
+        log.info("Отправка запроса на обновление пользователя с ID={}", userId);
+        log.debug("Изменения пользователя {}: {}", userId, userDto);
+        ResponseEntity<Object> response = patch("/" + userId, userDto);
+        evict(ResponseCache.USERS, "/" + userId);
+        evict(ResponseCache.USERS, "");
+        evict(ResponseCache.ITEMS);
+        evict(ResponseCache.BOOKINGS);
+        return response;
     }
 
     public ResponseEntity<Object> delete(Long id) {
         log.info("Отправка запроса на удаление пользователя с id={}", id);
-        return delete("/" + id);
+        ResponseEntity<Object> response = delete("/" + id);
+        evict(ResponseCache.USERS);
+        evict(ResponseCache.ITEMS);
+        evict(ResponseCache.BOOKINGS);
+        evict(ResponseCache.REQUESTS);
+        return response;
     }
 }
\ No newline at end of file
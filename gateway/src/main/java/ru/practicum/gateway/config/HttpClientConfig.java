@@ -0,0 +1,76 @@
+package ru.practicum.gateway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import ru.practicum.gateway.base.ServerClientProperties;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ServerClientProperties.class)
+public class HttpClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager serverConnectionManager(
+            ServerClientProperties properties,
+            MeterRegistry registry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int maxTotal = virtualThreads ? properties.getVirtualThreads().getMaxTotal() : properties.getMaxTotal();
+        int maxPerRoute = virtualThreads
+                ? properties.getVirtualThreads().getMaxPerRoute()
+                : properties.getMaxPerRoute();
+        log.info("Пул соединений с сервером: всего {}, на маршрут {}, виртуальные потоки: {}",
+                maxTotal, maxPerRoute, virtualThreads);
+
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(properties.getConnectTimeout()))
+                        .setSocketTimeout(timeout(properties.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(manager, "shareit-server").bindTo(registry);
+        return manager;
+    }
+
+    @Bean
+    public ClientHttpRequestFactory serverRequestFactory(PoolingHttpClientConnectionManager serverConnectionManager,
+                                                         ServerClientProperties properties) {
+        TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis());
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(serverConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(properties.getLeaseTimeout()))
+                        .setResponseTimeout(timeout(properties.getReadTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleTimeout().toMillis()))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
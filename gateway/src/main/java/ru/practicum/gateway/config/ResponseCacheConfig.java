@@ -0,0 +1,20 @@
+package ru.practicum.gateway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.gateway.cache.ResponseCache;
+import ru.practicum.gateway.cache.ResponseCacheProperties;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(ResponseCacheProperties properties, ObjectMapper mapper,
+                                       MeterRegistry registry) {
+        return new ResponseCache(properties, mapper, registry);
+    }
+}
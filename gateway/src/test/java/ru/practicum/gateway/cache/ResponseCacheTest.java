@@ -0,0 +1,138 @@
+package ru.practicum.gateway.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.practicum.gateway.base.ServerClientProperties;
+import ru.practicum.gateway.client.user.UserClient;
+import ru.practicum.gateway.client.user.UserController;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResponseCacheTest {
+
+    private static final String SERVER_URL = "http://server";
+    private static final String USER = "{\"id\":1,\"name\":\"Иван\",\"email\":\"ivan@shareit.test\"}";
+    private static final String RENAMED_USER = "{\"id\":1,\"name\":\"Пётр\",\"email\":\"ivan@shareit.test\"}";
+
+    private ResponseCache cache;
+    private MockRestServiceServer server;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setTtl(Map.of(ResponseCache.USERS, Duration.ofMinutes(1)));
+        cache = new ResponseCache(properties, new ObjectMapper(), new SimpleMeterRegistry());
+
+        ServerClientProperties clientProperties = new ServerClientProperties();
+        clientProperties.setRelay(true);
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        UserClient client = new UserClient(SERVER_URL, new RestTemplateBuilder(customizer),
+                new SimpleClientHttpRequestFactory(), cache, clientProperties);
+        server = customizer.getServer();
+        mvc = MockMvcBuilders.standaloneSetup(new UserController(client)).build();
+    }
+
+    @Test
+    void responseFetchedBeforeWriteIsNotCached() {
+        CacheKey key = CacheKey.of(ResponseCache.USERS, "/1", null, null);
+        long generation = cache.generation(ResponseCache.USERS);
+
+        cache.invalidate(ResponseCache.USERS, "/1");
+        ResponseEntity<Object> response = cache.put(key, generation, ResponseEntity.ok(USER.getBytes()));
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.entryCount()).isZero();
+    }
+
+    @Test
+    void responseFetchedWithoutWriteIsCached() {
+        CacheKey key = CacheKey.of(ResponseCache.USERS, "/1", null, null);
+        long generation = cache.generation(ResponseCache.USERS);
+
+        cache.put(key, generation, ResponseEntity.ok(USER.getBytes()));
+
+        assertThat(cache.get(key)).isNotNull();
+        assertThat(cache.entryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedGetIsServedFromCache() throws Exception {
+        expectGet(USER);
+
+        mvc.perform(get("/users/1")).andExpect(status().isOk()).andExpect(content().json(USER));
+        mvc.perform(get("/users/1")).andExpect(status().isOk()).andExpect(content().json(USER));
+
+        server.verify();
+    }
+
+    @Test
+    void matchingIfNoneMatchGetsNotModified() throws Exception {
+        expectGet(USER);
+
+        String etag = mvc.perform(get("/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mvc.perform(get("/users/1").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().json(USER));
+
+        server.verify();
+    }
+
+    @Test
+    void updateEvictsCachedUser() throws Exception {
+        expectGet(USER);
+        server.expect(requestTo(SERVER_URL + "/users/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(RENAMED_USER, MediaType.APPLICATION_JSON));
+        expectGet(RENAMED_USER);
+
+        String etag = mvc.perform(get("/users/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(patch("/users/1").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Пётр\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().json(RENAMED_USER));
+
+        server.verify();
+    }
+
+    private void expectGet(String body) {
+        server.expect(requestTo(SERVER_URL + "/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+}
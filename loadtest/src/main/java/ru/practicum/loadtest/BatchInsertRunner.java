@@ -0,0 +1,88 @@
+package ru.practicum.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.dto.booking.status.Status;
+import ru.practicum.server.booking.model.Booking;
+import ru.practicum.server.booking.repository.BookingRepository;
+import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.repository.ItemRepository;
+import ru.practicum.server.user.model.User;
+import ru.practicum.server.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+@Slf4j
+public class BatchInsertRunner {
+
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    private final UserRepository users;
+    private final ItemRepository items;
+    private final BookingRepository bookings;
+    private final TransactionTemplate transaction;
+    private final int rows;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public BatchInsertRunner(ApplicationContext context, int rows) {
+        this.users = context.getBean(UserRepository.class);
+        this.items = context.getBean(ItemRepository.class);
+        this.bookings = context.getBean(BookingRepository.class);
+        this.transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.rows = rows;
+    }
+
+    public Map<String, Double> run() {
+        Map<String, Double> rowsPerSecond = new LinkedHashMap<>();
+
+        List<Long> userIds = new ArrayList<>(rows);
+        rowsPerSecond.put("users", insert(users, i -> User.builder()
+                .name("Пользователь " + i)
+                .email("batch" + i + "@example.com")
+                .build(), saved -> userIds.add(saved.getId())));
+
+        List<Long> itemIds = new ArrayList<>(rows);
+        rowsPerSecond.put("items", insert(items, i -> Item.builder()
+                .name("Вещь " + i)
+                .description("Описание вещи " + i)
+                .available(true)
+                .owner(userIds.get(random.nextInt(userIds.size())))
+                .build(), saved -> itemIds.add(saved.getId())));
+
+        LocalDateTime origin = LocalDateTime.now().plusDays(1).withNano(0);
+        rowsPerSecond.put("bookings", insert(bookings, i -> Booking.builder()
+                .start(origin.plusHours(i))
+                .end(origin.plusHours(i + 1))
+                .booker(userIds.get(random.nextInt(userIds.size())))
+                .item(itemIds.get(random.nextInt(itemIds.size())))
+                .status(Status.WAITING)
+                .build(), saved -> { }));
+
+        return rowsPerSecond;
+    }
+
+    private <T> double insert(JpaRepository<T, Long> repository, IntFunction<T> factory,
+                              Consumer<T> onSaved) {
+        long started = System.nanoTime();
+        for (int from = 0; from < rows; from += ROWS_PER_TRANSACTION) {
+            int to = Math.min(rows, from + ROWS_PER_TRANSACTION);
+            List<T> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(factory.apply(i));
+            }
+            transaction.executeWithoutResult(status -> repository.saveAll(chunk).forEach(onSaved));
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return rows / seconds;
+    }
+}
@@ -0,0 +1,167 @@
+package ru.practicum.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DatasetSeeder {
+
+    static final String[] WORDS = {
+            "дрель", "перфоратор", "шуруповёрт", "лестница", "палатка", "велосипед", "самокат", "пила",
+            "проектор", "гитара", "рюкзак", "спальник", "лобзик", "стремянка", "болгарка", "мангал",
+            "каяк", "лыжи", "сноуборд", "удочка", "фотоаппарат", "штатив", "пылесос", "газонокосилка"
+    };
+    private static final String[] ADJECTIVES = {
+            "аккумуляторная", "новая", "лёгкая", "большая", "складная", "профессиональная", "детская", "походная"
+    };
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "APPROVED", "WAITING", "WAITING", "REJECTED"};
+    private static final int BATCH_SIZE = 1_000;
+
+    private final DataSource dataSource;
+    private final LoadTestOptions options;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public void seed() throws SQLException {
+        long started = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            seedUsers(connection);
+            seedRequests(connection);
+            seedItems(connection);
+            seedBookings(connection);
+            seedComments(connection);
+            resetIdentities(connection);
+            connection.commit();
+        }
+        log.info("Тестовые данные загружены за {} мс: пользователей {}, вещей {}, запросов {}, бронирований {}, "
+                        + "комментариев {}", System.currentTimeMillis() - started, options.getUsers(),
+                options.getItems(), options.getRequests(), options.getBookings(), options.getComments());
+    }
+
+    private void seedUsers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (id, name, email) VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= options.getUsers(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "Пользователь " + id);
+                statement.setString(3, "user" + id + "@example.com");
+                addToBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedRequests(Connection connection) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO requests (id, description, requestor_id, started) VALUES (?, ?, ?, ?)")) {
+            for (int id = 1; id <= options.getRequests(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "Нужна " + word());
+                statement.setLong(3, userId());
+                statement.setTimestamp(4, Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600))));
+                addToBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedItems(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO items (id, name, description, available, owner_id, request_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= options.getItems(); id++) {
+                String word = word();
+                statement.setLong(1, id);
+                statement.setString(2, capitalize(word) + " " + id);
+                statement.setString(3, ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + word + " и "
+                        + word());
+                statement.setBoolean(4, random.nextInt(10) != 0);
+                statement.setLong(5, userId());
+                if (options.getRequests() > 0 && random.nextInt(5) == 0) {
+                    statement.setLong(6, 1 + random.nextInt(options.getRequests()));
+                } else {
+                    statement.setNull(6, java.sql.Types.BIGINT);
+                }
+                addToBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedBookings(Connection connection) throws SQLException {
+        LocalDateTime origin = LocalDateTime.now().minusDays(365).withNano(0);
+        int[] slots = new int[options.getItems() + 1];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bookings (id, start, ended, booker_id, item_id, status) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= options.getBookings(); id++) {
+                int itemId = 1 + random.nextInt(options.getItems());
+                LocalDateTime start = origin.plusDays(2L * slots[itemId]++);
+                statement.setLong(1, id);
+                statement.setTimestamp(2, Timestamp.valueOf(start));
+                statement.setTimestamp(3, Timestamp.valueOf(start.plusDays(1)));
+                statement.setLong(4, userId());
+                statement.setLong(5, itemId);
+                statement.setString(6, STATUSES[random.nextInt(STATUSES.length)]);
+                addToBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void seedComments(Connection connection) throws SQLException {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO comments (id, text, item_id, author_id, created) VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= options.getComments(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "Отличная вещь, " + word() + " тоже пригодилась");
+                statement.setLong(3, 1 + random.nextInt(options.getItems()));
+                statement.setLong(4, userId());
+                statement.setObject(5, now.minusMinutes(random.nextInt(525_600)));
+                addToBatch(statement, id);
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void resetIdentities(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"users", "requests", "items", "bookings", "comments"}) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)");
+            }
+        }
+    }
+
+    private void addToBatch(PreparedStatement statement, int row) throws SQLException {
+        statement.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private long userId() {
+        return 1 + random.nextInt(options.getUsers());
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public void recordSuccess(long elapsedNanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public Report toReport(double seconds) {
+        long requests = latencies.getTotalCount();
+        return new Report(
+                requests,
+                errors.sum(),
+                requests / seconds,
+                millis(latencies.getValueAtPercentile(50.0)),
+                millis(latencies.getValueAtPercentile(99.0)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue())
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    public record Report(long requests, long errors, double throughput,
+                         double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+}
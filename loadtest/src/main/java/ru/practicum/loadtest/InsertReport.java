@@ -0,0 +1,16 @@
+package ru.practicum.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+public record InsertReport(String scenario,
+                           Instant startedAt,
+                           Map<String, Object> settings,
+                           Map<String, Double> rowsPerSecond) {
+
+    public void write(Path path) throws IOException {
+        LoadReport.MAPPER.writeValue(path.toFile(), this);
+    }
+}
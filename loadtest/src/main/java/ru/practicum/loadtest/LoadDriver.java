@@ -0,0 +1,107 @@
+package ru.practicum.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+@Slf4j
+public class LoadDriver implements AutoCloseable {
+
+    private final String baseUrl;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+    private final ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+
+    public LoadDriver(String baseUrl, List<Endpoint> endpoints) {
+        this.baseUrl = baseUrl;
+        this.endpoints = endpoints;
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    public Map<String, EndpointStats.Report> run(int concurrency, Duration duration) {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> stats.put(endpoint.name(), new EndpointStats()));
+
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                SplittableRandom random = new SplittableRandom(worker);
+                workers.submit(() -> work(random, stats, deadline));
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        Map<String, EndpointStats.Report> reports = new LinkedHashMap<>();
+        stats.forEach((name, endpointStats) -> reports.put(name, endpointStats.toReport(seconds)));
+        return reports;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        clientExecutor.close();
+    }
+
+    private void work(SplittableRandom random, Map<String, EndpointStats> stats, long deadline) {
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(random);
+            EndpointStats endpointStats = stats.get(endpoint.name());
+            HttpRequest request = endpoint.request().apply(random)
+                    .uri(URI.create(baseUrl + endpoint.path().apply(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() < 400) {
+                    endpointStats.recordSuccess(System.nanoTime() - started);
+                } else {
+                    endpointStats.recordError();
+                }
+            } catch (IOException e) {
+                log.debug("Ошибка запроса {}: {}", request.uri(), e.getMessage());
+                endpointStats.recordError();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Endpoint pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    public record Endpoint(String name,
+                           int weight,
+                           Function<SplittableRandom, String> path,
+                           Function<SplittableRandom, HttpRequest.Builder> request) {
+    }
+}
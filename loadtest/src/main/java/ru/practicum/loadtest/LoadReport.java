@@ -0,0 +1,27 @@
+package ru.practicum.loadtest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+public record LoadReport(String scenario,
+                         Instant startedAt,
+                         int concurrency,
+                         int durationSeconds,
+                         Map<String, Object> settings,
+                         Map<String, EndpointStats.Report> endpoints) {
+
+    static final JsonMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+
+    public void write(Path path) throws IOException {
+        MAPPER.writeValue(path.toFile(), this);
+    }
+}
@@ -0,0 +1,187 @@
+package ru.practicum.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.gateway.GatewayApp;
+import ru.practicum.server.ServerApp;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+@Slf4j
+public class LoadTestApp {
+
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final String[] BOOKING_STATES = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        switch (options.getScenario()) {
+            case "full" -> runFull(options);
+            case "gateway-stub" -> runGatewayStub(options);
+            case "insert" -> runInsert(options);
+            default -> throw new IllegalArgumentException("Неизвестный сценарий: " + options.getScenario());
+        }
+    }
+
+    private static void runFull(LoadTestOptions options) throws Exception {
+        try (TestDatabase database = TestDatabase.start(options)) {
+            database.migrate();
+            new DatasetSeeder(database.dataSource(), options).seed();
+
+            try (ConfigurableApplicationContext server = startServer(database, options, List.of());
+                 ConfigurableApplicationContext gateway = startGateway("http://127.0.0.1:" + port(server),
+                         options, List.of())) {
+                Map<String, Object> settings = new LinkedHashMap<>();
+                settings.put("users", options.getUsers());
+                settings.put("items", options.getItems());
+                settings.put("requests", options.getRequests());
+                settings.put("bookings", options.getBookings());
+                settings.put("comments", options.getComments());
+                settings.put("searchEngine", options.getSearchEngine());
+                settings.put("virtualThreads", options.isVirtualThreads());
+                settings.put("gatewayCache", options.isGatewayCache());
+                drive(options, "http://127.0.0.1:" + port(gateway), fullMix(options), settings);
+            }
+        }
+    }
+
+    private static void runInsert(LoadTestOptions options) throws Exception {
+        try (TestDatabase database = TestDatabase.start(options)) {
+            database.migrate();
+
+            try (ConfigurableApplicationContext server = startServer(database, options, List.of(
+                    "--spring.main.web-application-type=none",
+                    "--spring.jpa.properties.hibernate.jdbc.batch_size=" + options.getJdbcBatchSize()))) {
+                Instant startedAt = Instant.now();
+                Map<String, Double> rowsPerSecond = new BatchInsertRunner(server, options.getRows()).run();
+
+                Map<String, Object> settings = new LinkedHashMap<>();
+                settings.put("rows", options.getRows());
+                settings.put("jdbcBatchSize", options.getJdbcBatchSize());
+                new InsertReport(options.getScenario(), startedAt, settings, rowsPerSecond)
+                        .write(options.getOutput());
+                rowsPerSecond.forEach((entity, rate) -> log.info("{}: {} строк/с", entity, Math.round(rate)));
+                log.info("Отчёт сохранён в {}", options.getOutput().toAbsolutePath());
+            }
+        }
+    }
+
+    private static void runGatewayStub(LoadTestOptions options) throws Exception {
+        try (SlowStubServer stub = new SlowStubServer(options.getStubDelayMs());
+             ConfigurableApplicationContext gateway = startGateway(stub.url(), options, List.of(
+                     "--shareit-gateway.client.max-total=" + options.getConcurrency(),
+                     "--shareit-gateway.client.max-per-route=" + options.getConcurrency()))) {
+            List<LoadDriver.Endpoint> endpoints = List.of(new LoadDriver.Endpoint("users", 1,
+                    random -> "/users/" + (1 + random.nextInt(options.getUsers())),
+                    random -> HttpRequest.newBuilder()));
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("stubDelayMs", options.getStubDelayMs());
+            settings.put("virtualThreads", options.isVirtualThreads());
+            drive(options, "http://127.0.0.1:" + port(gateway), endpoints, settings);
+        }
+    }
+
+    private static List<LoadDriver.Endpoint> fullMix(LoadTestOptions options) {
+        return List.of(
+                new LoadDriver.Endpoint("items", 25,
+                        random -> "/items",
+                        random -> asUser(random, options)),
+                new LoadDriver.Endpoint("items-search", 25,
+                        random -> "/items/search?from=0&size=10&text=" + URLEncoder.encode(
+                                DatasetSeeder.WORDS[random.nextInt(DatasetSeeder.WORDS.length)],
+                                StandardCharsets.UTF_8),
+                        random -> asUser(random, options)),
+                new LoadDriver.Endpoint("bookings", 20,
+                        random -> "/bookings?from=0&size=10&state=" + state(random),
+                        random -> asUser(random, options)),
+                new LoadDriver.Endpoint("bookings-owner", 20,
+                        random -> "/bookings/owner?from=0&size=10&state=" + state(random),
+                        random -> asUser(random, options)),
+                new LoadDriver.Endpoint("requests-all", 10,
+                        random -> "/requests/all?from=0&size=10",
+                        random -> asUser(random, options))
+        );
+    }
+
+    private static void drive(LoadTestOptions options, String baseUrl, List<LoadDriver.Endpoint> endpoints,
+                              Map<String, Object> settings) throws Exception {
+        try (LoadDriver driver = new LoadDriver(baseUrl, endpoints)) {
+            if (options.getWarmupSeconds() > 0) {
+                log.info("Прогрев: {} с, {} параллельных клиентов", options.getWarmupSeconds(),
+                        options.getConcurrency());
+                driver.run(options.getConcurrency(), Duration.ofSeconds(options.getWarmupSeconds()));
+            }
+            log.info("Нагрузка: {} с, {} параллельных клиентов", options.getDurationSeconds(),
+                    options.getConcurrency());
+            Instant startedAt = Instant.now();
+            Map<String, EndpointStats.Report> results = driver.run(options.getConcurrency(),
+                    Duration.ofSeconds(options.getDurationSeconds()));
+
+            new LoadReport(options.getScenario(), startedAt, options.getConcurrency(),
+                    options.getDurationSeconds(), settings, results).write(options.getOutput());
+            results.forEach((name, report) -> log.info("{}: {}", name, report));
+            log.info("Отчёт сохранён в {}", options.getOutput().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(TestDatabase database, LoadTestOptions options,
+                                                              List<String> extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.autoconfigure.exclude=",
+                "--spring.datasource.url=" + database.getUrl(),
+                "--spring.datasource.username=" + database.getUser(),
+                "--spring.datasource.password=" + database.getPassword(),
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.locations=classpath:db/migration",
+                "--spring.devtools.restart.enabled=false",
+                "--shareit.item.search.engine=" + options.getSearchEngine(),
+                "--logging.level.ru.practicum=WARN",
+                "--logging.level.ru.practicum.loadtest=INFO"
+        ));
+        args.addAll(extraArgs);
+        return new SpringApplicationBuilder(ServerApp.class).run(args.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext startGateway(String serverUrl, LoadTestOptions options,
+                                                               List<String> extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--shareit-server.url=" + serverUrl,
+                "--spring.autoconfigure.exclude="
+                        + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+                "--spring.threads.virtual.enabled=" + options.isVirtualThreads(),
+                "--shareit-gateway.cache.enabled=" + options.isGatewayCache(),
+                "--logging.level.ru.practicum=WARN",
+                "--logging.level.ru.practicum.loadtest=INFO"
+        ));
+        args.addAll(extraArgs);
+        return new SpringApplicationBuilder(GatewayApp.class).run(args.toArray(String[]::new));
+    }
+
+    private static HttpRequest.Builder asUser(SplittableRandom random, LoadTestOptions options) {
+        return HttpRequest.newBuilder()
+                .header(USER_HEADER, String.valueOf(1 + random.nextInt(options.getUsers())));
+    }
+
+    private static String state(SplittableRandom random) {
+        return BOOKING_STATES[random.nextInt(BOOKING_STATES.length)];
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
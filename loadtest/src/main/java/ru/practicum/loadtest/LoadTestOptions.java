@@ -0,0 +1,70 @@
+package ru.practicum.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public class LoadTestOptions {
+
+    private final String scenario;
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+    private final int users;
+    private final int items;
+    private final int requests;
+    private final int bookings;
+    private final int comments;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int stubDelayMs;
+    private final boolean virtualThreads;
+    private final boolean gatewayCache;
+    private final String searchEngine;
+    private final int rows;
+    private final int jdbcBatchSize;
+    private final Path output;
+
+    private LoadTestOptions(Map<String, String> values) {
+        scenario = values.getOrDefault("scenario", "full");
+        jdbcUrl = values.get("jdbc-url");
+        jdbcUser = values.getOrDefault("jdbc-user", "postgres");
+        jdbcPassword = values.getOrDefault("jdbc-password", "postgres");
+        users = intValue(values, "users", 1_000);
+        items = intValue(values, "items", 10_000);
+        requests = intValue(values, "requests", 2_000);
+        bookings = intValue(values, "bookings", 50_000);
+        comments = intValue(values, "comments", 20_000);
+        concurrency = intValue(values, "concurrency", "gateway-stub".equals(scenario) ? 1_000 : 64);
+        warmupSeconds = intValue(values, "warmup", 10);
+        durationSeconds = intValue(values, "duration", 60);
+        stubDelayMs = intValue(values, "stub-delay-ms", 50);
+        virtualThreads = Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false"));
+        gatewayCache = Boolean.parseBoolean(values.getOrDefault("gateway-cache", "false"));
+        searchEngine = values.getOrDefault("search-engine", "fulltext");
+        rows = intValue(values, "rows", 20_000);
+        jdbcBatchSize = intValue(values, "jdbc-batch-size", 50);
+        output = Path.of(values.getOrDefault("output", "loadtest-report.json"));
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Ожидался аргумент вида --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
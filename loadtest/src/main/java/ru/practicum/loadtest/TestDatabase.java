@@ -0,0 +1,59 @@
+package ru.practicum.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import ru.practicum.server.config.FlywayConfig;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@Getter
+public class TestDatabase implements AutoCloseable {
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final EmbeddedPostgres embedded;
+
+    private TestDatabase(String url, String user, String password, EmbeddedPostgres embedded) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.embedded = embedded;
+    }
+
+    public static TestDatabase start(LoadTestOptions options) throws IOException {
+        if (options.getJdbcUrl() != null) {
+            return new TestDatabase(options.getJdbcUrl(), options.getJdbcUser(), options.getJdbcPassword(), null);
+        }
+        EmbeddedPostgres embedded = EmbeddedPostgres.builder().start();
+        String url = embedded.getJdbcUrl("postgres", "postgres");
+        log.info("Запущен встроенный PostgreSQL: {}", url);
+        return new TestDatabase(url, "postgres", "postgres", embedded);
+    }
+
+    public DataSource dataSource() {
+        return new DriverManagerDataSource(url, user, password);
+    }
+
+    public void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource())
+                .locations("classpath:db/migration", FlywayConfig.RANGE_TYPE_MIGRATIONS)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Setter
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final int WINDOW_SHIFT = 32;
+    private static final long COUNT_MASK = (1L << WINDOW_SHIFT) - 1;
+
+    private String loggers = "";
+    private int eventsPerSecond = 100;
+    private Level maxLevel = Level.INFO;
+
+    private String[] prefixes = new String[0];
+    private final ConcurrentHashMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public void start() {
+        prefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!isStarted() || level == null || level.toInt() > maxLevel.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        AtomicLong window = windows.computeIfAbsent(logger.getName(), name -> new AtomicLong());
+        long second = System.currentTimeMillis() / 1000;
+        while (true) {
+            long current = window.get();
+            long next = current >>> WINDOW_SHIFT == second ? current + 1 : second << WINDOW_SHIFT | 1;
+            if ((next & COUNT_MASK) > eventsPerSecond) {
+                return FilterReply.DENY;
+            }
+            if (window.compareAndSet(current, next)) {
+                return FilterReply.NEUTRAL;
+            }
+        }
+    }
+
+    private boolean matches(String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,8 +5,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.dto.booking.BookingApprovalDto;
+import ru.practicum.dto.booking.BookingApprovalResultDto;
 import ru.practicum.dto.booking.BookingDto;
+import ru.practicum.dto.booking.BookingSummaryDto;
 import ru.practicum.dto.booking.RequestBookingDto;
+import ru.practicum.server.pagination.SeekCursor;
 
 import java.util.List;
 
@@ -25,6 +29,14 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.create(bookingRequestDto, userId));
     }
 
+    @PatchMapping("/approve")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<BookingApprovalResultDto>> approveBookings(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestBody List<BookingApprovalDto> approvals) {
+        return ResponseEntity.ok(bookingService.approveAll(approvals, userId));
+    }
+
     @PatchMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<BookingDto> approveBooking(
@@ -48,17 +60,55 @@ public class BookingController {
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return withNextCursor(bookingService.getUserBookingsAfter(userId, state, SeekCursor.decode(cursor), size),
+                    size);
+        }
         return ResponseEntity.ok(bookingService.getUserBookings(userId, state, from, size));
     }
 
+    @GetMapping("/summary")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<BookingSummaryDto> getUserBookingSummary(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return ResponseEntity.ok(bookingService.getUserBookingSummary(userId, state, size));
+    }
+
+    @GetMapping("/owner/summary")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<BookingSummaryDto> getOwnerBookingSummary(
+            @RequestHeader("X-Sharer-User-Id") Long ownerId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "10") Integer size) {
+        return ResponseEntity.ok(bookingService.getOwnerBookingSummary(ownerId, state, size));
+    }
+
     @GetMapping("/owner")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<List<BookingDto>> getOwnerBookings(
             @RequestHeader("X-Sharer-User-Id") Long ownerId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return withNextCursor(bookingService.getOwnerBookingsAfter(ownerId, state, SeekCursor.decode(cursor), size),
+                    size);
+        }
         return ResponseEntity.ok(bookingService.getOwnerBookings(ownerId, state, from, size));
     }
+
+    private static ResponseEntity<List<BookingDto>> withNextCursor(List<BookingDto> bookings, Integer size) {
+        if (bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        BookingDto last = bookings.get(bookings.size() - 1);
+        return ResponseEntity.ok()
+                .header(SeekCursor.NEXT_CURSOR_HEADER, new SeekCursor(last.getStart(), last.getId()).encode())
+                .body(bookings);
+    }
 }
@@ -1,7 +1,11 @@
 package ru.practicum.server.booking;
 
+import ru.practicum.dto.booking.BookingApprovalDto;
+import ru.practicum.dto.booking.BookingApprovalResultDto;
 import ru.practicum.dto.booking.BookingDto;
+import ru.practicum.dto.booking.BookingSummaryDto;
 import ru.practicum.dto.booking.RequestBookingDto;
+import ru.practicum.server.pagination.SeekCursor;
 
 import java.util.List;
 
@@ -11,9 +15,19 @@ public interface BookingService {
 
     BookingDto approve(Long bookingId, Boolean approved, Long userId);
 
+    List<BookingApprovalResultDto> approveAll(List<BookingApprovalDto> approvals, Long userId);
+
     BookingDto getById(Long bookingId, Long userId);
 
     List<BookingDto> getUserBookings(Long userId, String state, Integer from, Integer size);
 
     List<BookingDto> getOwnerBookings(Long ownerId, String state, Integer from, Integer size);
+
+    BookingSummaryDto getUserBookingSummary(Long userId, String state, Integer size);
+
+    BookingSummaryDto getOwnerBookingSummary(Long ownerId, String state, Integer size);
+
+    List<BookingDto> getUserBookingsAfter(Long userId, String state, SeekCursor cursor, Integer size);
+
+    List<BookingDto> getOwnerBookingsAfter(Long ownerId, String state, SeekCursor cursor, Integer size);
 }
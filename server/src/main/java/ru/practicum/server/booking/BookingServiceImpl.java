@@ -1,13 +1,21 @@
 package ru.practicum.server.booking;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.dto.booking.BookingApprovalDto;
+import ru.practicum.dto.booking.BookingApprovalResultDto;
 import ru.practicum.dto.booking.BookingDto;
+import ru.practicum.dto.booking.BookingSummaryDto;
 import ru.practicum.dto.booking.RequestBookingDto;
 import ru.practicum.dto.booking.status.Status;
 import ru.practicum.dto.exception.InternalServerException;
@@ -15,26 +23,46 @@ import ru.practicum.dto.exception.NotFoundException;
 import ru.practicum.dto.exception.ValidationException;
 import ru.practicum.dto.item.ItemDto;
 import ru.practicum.dto.user.UserDto;
+import ru.practicum.server.booking.lock.ItemBookingLock;
 import ru.practicum.server.booking.mapper.BookingMapper;
 import ru.practicum.server.booking.model.Booking;
+import ru.practicum.server.booking.model.BookingStateCounts;
 import ru.practicum.server.booking.repository.BookingRepository;
 import ru.practicum.server.item.ItemService;
+import ru.practicum.server.pagination.SeekCursor;
 import ru.practicum.server.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 public class BookingServiceImpl implements BookingService {
 
+    private static final Set<String> STATES = Set.of("ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED");
+    private static final int MAX_BULK_APPROVALS = 1000;
+
     private final BookingRepository repository;
     private final ItemService itemService;
     private final UserService userService;
     private final BookingMapper mapper;
+    private final ItemBookingLock itemLock;
+    private final MeterRegistry meterRegistry;
+    @Value("${shareit.booking.range-types:true}")
+    private final boolean rangeTypes;
 
     @Override
     @Transactional
@@ -53,7 +81,7 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException("Вещь с id " + requestBookingDto.getItem() + " недоступна для бронирования");
         }
 
-        checkItemAvailability(requestBookingDto);
+        checkItemAvailability(requestBookingDto.getItem(), requestBookingDto.getStart(), requestBookingDto.getEnd());
 
         Booking booking = mapper.toEntity(requestBookingDto);
         booking.setBooker(userId);
@@ -81,7 +109,8 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException("статус подтверждения не может равняться null");
         }
 
-        Booking booking = getBookingById(bookingId);
+        Booking booking = repository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new NotFoundException("бронирование с id = " + bookingId + " не найдено"));
 
         ItemDto item = getItemById(booking.getItem());
 
@@ -93,11 +122,25 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus() != Status.WAITING) {
             throw new ValidationException("Бронирование уже имеет статус: " + booking.getStatus());
         }
+        if (booking.getStart().isBefore(LocalDateTime.now())) {
+            throw new ValidationException("Дата начала бронирования уже прошла");
+        }
+
+        if (approved) {
+            itemLock.lock(booking.getItem());
+            checkItemAvailability(booking.getItem(), booking.getStart(), booking.getEnd());
+        }
 
         Status newStatus = approved ? Status.APPROVED : Status.REJECTED;
         booking.setStatus(newStatus);
 
-        Booking updatedBooking = repository.save(booking);
+        Booking updatedBooking;
+        try {
+            updatedBooking = repository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Бронирование {} пересекается с подтверждённым: {}", bookingId, e.getMessage());
+            throw new ValidationException("Вещь уже забронирована на указанные даты");
+        }
         log.info("Бронирование {} переведено в статус {}", bookingId, newStatus);
 
         BookingDto bookingDto = mapper.toDto(updatedBooking);
@@ -111,6 +154,76 @@ public class BookingServiceImpl implements BookingService {
         return bookingDto;
     }
 
+    @Override
+    @Transactional
+    public List<BookingApprovalResultDto> approveAll(List<BookingApprovalDto> approvals, Long userId) {
+        if (approvals == null || approvals.isEmpty()) {
+            throw new ValidationException("необходимо указать хотя бы одно бронирование");
+        }
+        if (approvals.size() > MAX_BULK_APPROVALS) {
+            throw new ValidationException("за один запрос можно обработать не более " + MAX_BULK_APPROVALS
+                    + " бронирований");
+        }
+        log.info("Пакетное подтверждение {} бронирований от владельца {}", approvals.size(), userId);
+
+        getUserById(userId);
+
+        Set<Long> bookingIds = approvals.stream()
+                .map(BookingApprovalDto::getBookingId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Booking> bookings = bookingIds.isEmpty()
+                ? Collections.emptyMap()
+                : repository.findAllByIdAndItemOwnerId(bookingIds, userId).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Long, List<Booking>> approvedByItem = lockAndLoadApproved(approvals, bookings);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingApprovalResultDto> results = new ArrayList<>(approvals.size());
+        List<Booking> changed = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (BookingApprovalDto approval : approvals) {
+            BookingApprovalResultDto result = BookingApprovalResultDto.builder()
+                    .bookingId(approval.getBookingId())
+                    .build();
+            results.add(result);
+
+            Booking booking = bookings.get(approval.getBookingId());
+            if (approval.getBookingId() == null || approval.getApproved() == null) {
+                result.setError("необходимо указать bookingId и approved");
+            } else if (!seen.add(approval.getBookingId())) {
+                result.setError("бронирование указано в запросе повторно");
+            } else if (booking == null) {
+                result.setError("бронирование не найдено среди бронирований вещей владельца");
+            } else if (booking.getStatus() != Status.WAITING) {
+                result.setError("Бронирование уже имеет статус: " + booking.getStatus());
+            } else if (booking.getStart().isBefore(now)) {
+                result.setError("Дата начала бронирования уже прошла");
+            } else if (approval.getApproved()
+                    && overlapsAny(booking, approvedByItem.getOrDefault(booking.getItem(), List.of()))) {
+                result.setError("Вещь уже забронирована на указанные даты");
+            } else {
+                booking.setStatus(approval.getApproved() ? Status.APPROVED : Status.REJECTED);
+                if (approval.getApproved()) {
+                    approvedByItem.computeIfAbsent(booking.getItem(), item -> new ArrayList<>()).add(booking);
+                }
+                changed.add(booking);
+                result.setStatus(booking.getStatus());
+            }
+        }
+
+        try {
+            repository.saveAllAndFlush(changed);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Пакет бронирований владельца {} пересекается с подтверждёнными: {}", userId, e.getMessage());
+            throw new ValidationException("Вещь уже забронирована на указанные даты");
+        }
+        log.info("Владелец {} обработал {} из {} бронирований", userId, changed.size(), approvals.size());
+
+        return results;
+    }
+
     @Override
     public BookingDto getById(Long bookingId, Long userId) {
         log.info("Получение информации о бронировании {} пользователем {}", bookingId, userId);
@@ -168,8 +281,157 @@ public class BookingServiceImpl implements BookingService {
         return convertToDtoList(bookings);
     }
 
+    @Override
+    public BookingSummaryDto getUserBookingSummary(Long userId, String state, Integer size) {
+        log.info("Получение сводки бронирований пользователя {}, состояние: {}", userId, state);
+
+        getUserById(userId);
+
+        return getBookingSummary(userId, state, size, false);
+    }
+
+    @Override
+    public BookingSummaryDto getOwnerBookingSummary(Long ownerId, String state, Integer size) {
+        log.info("Получение сводки бронирований для вещей владельца {}, состояние: {}", ownerId, state);
+
+        getUserById(ownerId);
+
+        return getBookingSummary(ownerId, state, size, true);
+    }
+
+    @Override
+    public List<BookingDto> getUserBookingsAfter(Long userId, String state, SeekCursor cursor, Integer size) {
+        log.info("Получение страницы бронирований пользователя {} после курсора, состояние: {}", userId, state);
+
+        getUserById(userId);
+
+        validatePagination(0, size);
+
+        List<Booking> bookings = getBookingsByStateAfter(userId, state, LocalDateTime.now(), cursor, size, false);
+
+        return convertToDtoList(bookings);
+    }
+
+    @Override
+    public List<BookingDto> getOwnerBookingsAfter(Long ownerId, String state, SeekCursor cursor, Integer size) {
+        log.info("Получение страницы бронирований владельца {} после курсора, состояние: {}", ownerId, state);
+
+        getUserById(ownerId);
+
+        validatePagination(0, size);
+
+        List<Booking> bookings = getBookingsByStateAfter(ownerId, state, LocalDateTime.now(), cursor, size, true);
+
+        return convertToDtoList(bookings);
+    }
+
+    private BookingSummaryDto getBookingSummary(Long userId, String state, Integer size, boolean isOwner) {
+        validatePagination(0, size);
+        String upperState = state.toUpperCase();
+        if (!STATES.contains(upperState)) {
+            log.error("Неизвестное состояние бронирования: {}", state);
+            throw new ValidationException("Unknown state: " + state);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BookingStateCounts counts = isOwner
+                ? repository.countByOwnerIdPerState(userId, now)
+                : repository.countByBookerIdPerState(userId, now);
+
+        Map<Status, Long> countsByState = new LinkedHashMap<>();
+        countsByState.put(Status.ALL, counts.getTotal());
+        countsByState.put(Status.CURRENT, counts.getCurrent());
+        countsByState.put(Status.PAST, counts.getPast());
+        countsByState.put(Status.FUTURE, counts.getFuture());
+        countsByState.put(Status.WAITING, counts.getWaiting());
+        countsByState.put(Status.REJECTED, counts.getRejected());
+
+        Status status = Status.valueOf(upperState);
+        List<Booking> bookings = countsByState.get(status) == 0
+                ? Collections.emptyList()
+                : getBookingsByState(userId, upperState, now,
+                PageRequest.of(0, size, Sort.by("start").descending()), isOwner);
+
+        return BookingSummaryDto.builder()
+                .counts(countsByState)
+                .state(status)
+                .bookings(convertToDtoList(bookings))
+                .build();
+    }
+
+    private List<Booking> getBookingsByStateAfter(Long userId, String state, LocalDateTime now,
+                                                  SeekCursor cursor, int size, boolean isOwner) {
+        return stateTimer(state, isOwner, "seek")
+                .record(() -> findBookingsByStateAfter(userId, state, now, cursor, size, isOwner));
+    }
+
     private List<Booking> getBookingsByState(Long userId, String state, LocalDateTime now,
                                              Pageable pageable, boolean isOwner) {
+        return stateTimer(state, isOwner, "offset")
+                .record(() -> findBookingsByState(userId, state, now, pageable, isOwner));
+    }
+
+    private Timer stateTimer(String state, boolean isOwner, String paging) {
+        String upperState = state.toUpperCase();
+        return Timer.builder("shareit.booking.state.query")
+                .tag("state", STATES.contains(upperState) ? upperState : "UNKNOWN")
+                .tag("role", isOwner ? "owner" : "booker")
+                .tag("paging", paging)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private List<Booking> findBookingsByStateAfter(Long userId, String state, LocalDateTime now,
+                                                   SeekCursor cursor, int size, boolean isOwner) {
+        String upperState = state.toUpperCase();
+        LocalDateTime cursorStart = cursor.position();
+        Long cursorId = cursor.id();
+
+        if (isOwner) {
+            switch (upperState) {
+                case "ALL":
+                    return repository.findByItemOwnerIdAfter(userId, cursorStart, cursorId, size);
+                case "CURRENT":
+                    return repository.findCurrentByOwnerIdAfter(userId, now, cursorStart, cursorId, size);
+                case "PAST":
+                    return repository.findPastByOwnerIdAfter(userId, now, cursorStart, cursorId, size);
+                case "FUTURE":
+                    return repository.findFutureByOwnerIdAfter(userId, now, cursorStart, cursorId, size);
+                case "WAITING":
+                    return repository.findByItemOwnerIdAndStatusAfter(
+                            userId, Status.WAITING.toString(), cursorStart, cursorId, size);
+                case "REJECTED":
+                    return repository.findByItemOwnerIdAndStatusAfter(
+                            userId, Status.REJECTED.toString(), cursorStart, cursorId, size);
+                default:
+                    log.error("Неизвестное состояние бронирования: {}", state);
+                    throw new ValidationException("Unknown state: " + state);
+            }
+        } else {
+            switch (upperState) {
+                case "ALL":
+                    return repository.findByBookerAfter(userId, cursorStart, cursorId, size);
+                case "CURRENT":
+                    return repository.findCurrentByBookerIdAfter(userId, now, cursorStart, cursorId, size);
+                case "PAST":
+                    return repository.findPastByBookerIdAfter(userId, now, cursorStart, cursorId, size);
+                case "FUTURE":
+                    return repository.findFutureByBookerIdAfter(userId, now, cursorStart, cursorId, size);
+                case "WAITING":
+                    return repository.findByBookerAndStatusAfter(
+                            userId, Status.WAITING.toString(), cursorStart, cursorId, size);
+                case "REJECTED":
+                    return repository.findByBookerAndStatusAfter(
+                            userId, Status.REJECTED.toString(), cursorStart, cursorId, size);
+                default:
+                    log.error("Неизвестное состояние бронирования: {}", state);
+                    throw new ValidationException("Unknown state: " + state);
+            }
+        }
+    }
+
+    private List<Booking> findBookingsByState(Long userId, String state, LocalDateTime now,
+                                              Pageable pageable, boolean isOwner) {
         String upperState = state.toUpperCase();
 
         if (isOwner) {
@@ -246,17 +508,43 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private void checkItemAvailability(RequestBookingDto requestBookingDto) {
-        boolean isBooked = repository.existsApprovedBookingsForItemBetweenDates(
-                requestBookingDto.getItem(),
-                requestBookingDto.getStart(),
-                requestBookingDto.getEnd());
+    private void checkItemAvailability(Long itemId, LocalDateTime start, LocalDateTime end) {
+        boolean isBooked = rangeTypes
+                ? repository.existsApprovedBookingsForItemInRange(itemId, start, end)
+                : repository.existsApprovedBookingsForItemBetweenDates(itemId, start, end);
 
         if (isBooked) {
             throw new ValidationException("Вещь уже забронирована на указанные даты");
         }
     }
 
+    private Map<Long, List<Booking>> lockAndLoadApproved(List<BookingApprovalDto> approvals,
+                                                         Map<Long, Booking> bookings) {
+        List<Booking> candidates = approvals.stream()
+                .filter(approval -> Boolean.TRUE.equals(approval.getApproved()))
+                .map(approval -> bookings.get(approval.getBookingId()))
+                .filter(booking -> booking != null && booking.getStatus() == Status.WAITING)
+                .toList();
+        if (candidates.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Set<Long> itemIds = candidates.stream()
+                .map(Booking::getItem)
+                .collect(Collectors.toSet());
+        itemLock.lockAll(itemIds);
+
+        LocalDateTime from = candidates.stream().map(Booking::getStart).min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime to = candidates.stream().map(Booking::getEnd).max(LocalDateTime::compareTo).orElseThrow();
+        return repository.findApprovedBookingsForItemsBetween(itemIds, from, to).stream()
+                .collect(Collectors.groupingBy(Booking::getItem, HashMap::new, Collectors.toList()));
+    }
+
+    private static boolean overlapsAny(Booking booking, List<Booking> approved) {
+        return approved.stream().anyMatch(other -> other.getStart().isBefore(booking.getEnd())
+                && other.getEnd().isAfter(booking.getStart()));
+    }
+
     private void validatePagination(Integer from, Integer size) {
         if (from < 0) {
             throw new ValidationException("Параметр 'from' не может быть отрицательным");
@@ -290,16 +578,26 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private List<BookingDto> convertToDtoList(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, UserDto> bookers = userService.getUsersByIds(bookings.stream()
+                        .map(Booking::getBooker)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserDto::getId, Function.identity()));
+        Map<Long, ItemDto> items = itemService.getItemsByIds(bookings.stream()
+                        .map(Booking::getItem)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ItemDto::getId, Function.identity()));
+
         return bookings.stream()
                 .map(booking -> {
                     BookingDto dto = mapper.toDto(booking);
-                    try {
-                        dto.setBooker(getUserById(booking.getBooker()));
-                        dto.setItem(getItemById(booking.getItem()));
-                    } catch (Exception e) {
-                        log.warn("Не удалось загрузить данные для бронирования {}: {}",
-                                booking.getId(), e.getMessage());
-                    }
+                    dto.setBooker(bookers.get(booking.getBooker()));
+                    dto.setItem(items.get(booking.getItem()));
                     return dto;
                 })
                 .collect(Collectors.toList());
@@ -0,0 +1,22 @@
+package ru.practicum.server.booking.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.server.booking.repository.BookingRepository;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.lock", havingValue = "advisory")
+public class AdvisoryItemBookingLock implements ItemBookingLock {
+
+    private final BookingRepository repository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Long itemId) {
+        repository.lockItemForBooking(itemId);
+    }
+}
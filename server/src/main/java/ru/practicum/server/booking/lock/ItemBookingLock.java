@@ -0,0 +1,15 @@
+package ru.practicum.server.booking.lock;
+
+import java.util.Collection;
+
+public interface ItemBookingLock {
+
+    void lock(Long itemId);
+
+    default void lockAll(Collection<Long> itemIds) {
+        itemIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(this::lock);
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.server.booking.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.lock", havingValue = "none", matchIfMissing = true)
+public class NoopItemBookingLock implements ItemBookingLock {
+
+    @Override
+    public void lock(Long itemId) {
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.server.booking.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.lock", havingValue = "striped")
+public class StripedItemBookingLock implements ItemBookingLock {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedItemBookingLock(@Value("${shareit.booking.lock-stripes:1024}") int stripes) {
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void lock(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Блокировка вещи " + itemId + " требует активной транзакции");
+        }
+        lockStripe(stripeOf(itemId));
+    }
+
+    @Override
+    public void lockAll(Collection<Long> itemIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Блокировка вещей " + itemIds + " требует активной транзакции");
+        }
+        itemIds.stream()
+                .map(this::stripeOf)
+                .distinct()
+                .sorted()
+                .forEach(this::lockStripe);
+    }
+
+    private int stripeOf(Long itemId) {
+        return Math.floorMod(Long.hashCode(itemId), stripes.length);
+    }
+
+    private void lockStripe(int index) {
+        ReentrantLock stripe = stripes[index];
+        stripe.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.unlock();
+            }
+        });
+    }
+}
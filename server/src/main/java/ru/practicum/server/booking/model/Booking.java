@@ -1,8 +1,6 @@
 package ru.practicum.server.booking.model;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Future;
-import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
@@ -20,17 +18,16 @@ import java.time.LocalDateTime;
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_id_seq")
+    @SequenceGenerator(name = "bookings_id_seq", sequenceName = "bookings_id_seq", allocationSize = 50)
     @Column(name = "id")
     Long id;
 
     @NotNull
-    @FutureOrPresent(message = "Дата начала должна быть в настоящем или будущем")
     @Column(name = "start", nullable = false)
     LocalDateTime start;
 
     @NotNull
-    @Future(message = "Дата окончания должна быть в будущем")
     @Column(name = "ended", nullable = false)
     LocalDateTime end;
 
@@ -0,0 +1,16 @@
+package ru.practicum.server.booking.model;
+
+public interface BookingStateCounts {
+
+    long getTotal();
+
+    long getCurrent();
+
+    long getPast();
+
+    long getFuture();
+
+    long getWaiting();
+
+    long getRejected();
+}
@@ -1,18 +1,27 @@
 package ru.practicum.server.booking.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.server.booking.model.Booking;
+import ru.practicum.server.booking.model.BookingStateCounts;
 import ru.practicum.dto.booking.status.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
     List<Booking> findByBookerOrderByStartDesc(Long booker, Pageable pageable);
 
     List<Booking> findByBookerAndStatusOrderByStartDesc(Long booker, Status status, Pageable pageable);
@@ -88,18 +97,210 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                       @Param("now") LocalDateTime now,
                                       Pageable pageable);
 
-    @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END " +
-            "FROM bookings WHERE item_id = :itemId " +
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "WHERE b.booker_id = :userId " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findByBookerAfter(@Param("userId") Long userId,
+                                    @Param("cursorStart") LocalDateTime cursorStart,
+                                    @Param("cursorId") Long cursorId,
+                                    @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "WHERE b.booker_id = :userId " +
+            "AND b.status = :status " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findByBookerAndStatusAfter(@Param("userId") Long userId,
+                                             @Param("status") String status,
+                                             @Param("cursorStart") LocalDateTime cursorStart,
+                                             @Param("cursorId") Long cursorId,
+                                             @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "WHERE b.booker_id = :userId " +
+            "AND b.start <= :now AND b.ended >= :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findCurrentByBookerIdAfter(@Param("userId") Long userId,
+                                             @Param("now") LocalDateTime now,
+                                             @Param("cursorStart") LocalDateTime cursorStart,
+                                             @Param("cursorId") Long cursorId,
+                                             @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "WHERE b.booker_id = :userId " +
+            "AND b.ended < :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findPastByBookerIdAfter(@Param("userId") Long userId,
+                                          @Param("now") LocalDateTime now,
+                                          @Param("cursorStart") LocalDateTime cursorStart,
+                                          @Param("cursorId") Long cursorId,
+                                          @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "WHERE b.booker_id = :userId " +
+            "AND b.start > :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findFutureByBookerIdAfter(@Param("userId") Long userId,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("cursorStart") LocalDateTime cursorStart,
+                                            @Param("cursorId") Long cursorId,
+                                            @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "JOIN items i ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findByItemOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                         @Param("cursorStart") LocalDateTime cursorStart,
+                                         @Param("cursorId") Long cursorId,
+                                         @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "JOIN items i ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId " +
+            "AND b.status = :status " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findByItemOwnerIdAndStatusAfter(@Param("ownerId") Long ownerId,
+                                                  @Param("status") String status,
+                                                  @Param("cursorStart") LocalDateTime cursorStart,
+                                                  @Param("cursorId") Long cursorId,
+                                                  @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "JOIN items i ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId " +
+            "AND b.start <= :now AND b.ended >= :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findCurrentByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("cursorStart") LocalDateTime cursorStart,
+                                            @Param("cursorId") Long cursorId,
+                                            @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "JOIN items i ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId " +
+            "AND b.ended < :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findPastByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("cursorStart") LocalDateTime cursorStart,
+                                         @Param("cursorId") Long cursorId,
+                                         @Param("size") int size);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "JOIN items i ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId " +
+            "AND b.start > :now " +
+            "AND (b.start, b.id) < (:cursorStart, :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC " +
+            "LIMIT :size",
+            nativeQuery = true)
+    List<Booking> findFutureByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("cursorStart") LocalDateTime cursorStart,
+                                           @Param("cursorId") Long cursorId,
+                                           @Param("size") int size);
+
+    @Query(value = "SELECT COUNT(*) AS total, " +
+            "COUNT(*) FILTER (WHERE b.start <= :now AND b.ended >= :now) AS current, " +
+            "COUNT(*) FILTER (WHERE b.ended < :now) AS past, " +
+            "COUNT(*) FILTER (WHERE b.start > :now) AS future, " +
+            "COUNT(*) FILTER (WHERE b.status = 'WAITING') AS waiting, " +
+            "COUNT(*) FILTER (WHERE b.status = 'REJECTED') AS rejected " +
+            "FROM bookings b " +
+            "WHERE b.booker_id = :userId",
+            nativeQuery = true)
+    BookingStateCounts countByBookerIdPerState(@Param("userId") Long userId,
+                                               @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT COUNT(*) AS total, " +
+            "COUNT(*) FILTER (WHERE b.start <= :now AND b.ended >= :now) AS current, " +
+            "COUNT(*) FILTER (WHERE b.ended < :now) AS past, " +
+            "COUNT(*) FILTER (WHERE b.start > :now) AS future, " +
+            "COUNT(*) FILTER (WHERE b.status = 'WAITING') AS waiting, " +
+            "COUNT(*) FILTER (WHERE b.status = 'REJECTED') AS rejected " +
+            "FROM bookings b " +
+            "JOIN items i ON b.item_id = i.id " +
+            "WHERE i.owner_id = :ownerId",
+            nativeQuery = true)
+    BookingStateCounts countByOwnerIdPerState(@Param("ownerId") Long ownerId,
+                                              @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM bookings WHERE item_id = :itemId " +
             "AND status = 'APPROVED' " +
-            "AND (:start BETWEEN start AND ended OR " +
-            ":end BETWEEN start AND ended OR " +
-            "(start <= :start AND ended >= :end))",
+            "AND start < :end AND ended > :start)",
             nativeQuery = true)
     boolean existsApprovedBookingsForItemBetweenDates(
             @Param("itemId") Long itemId,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
 
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM bookings WHERE item_id = :itemId " +
+            "AND status = 'APPROVED' " +
+            "AND period && tsrange(CAST(:start AS timestamp), CAST(:end AS timestamp), '[)'))",
+            nativeQuery = true)
+    boolean existsApprovedBookingsForItemInRange(
+            @Param("itemId") Long itemId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query(value = "SELECT * FROM bookings WHERE item_id IN (:itemIds) " +
+            "AND status IN ('APPROVED', 'WAITING') " +
+            "AND start < :to AND ended > :from " +
+            "ORDER BY item_id, start",
+            nativeQuery = true)
+    List<Booking> findActiveBookingsForItemsBetween(@Param("itemIds") Collection<Long> itemIds,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    @Query(value = "SELECT b.* FROM bookings b " +
+            "JOIN items i ON i.id = b.item_id " +
+            "WHERE b.id IN (:bookingIds) " +
+            "AND i.owner_id = :ownerId " +
+            "ORDER BY b.id " +
+            "FOR UPDATE OF b",
+            nativeQuery = true)
+    List<Booking> findAllByIdAndItemOwnerId(@Param("bookingIds") Collection<Long> bookingIds,
+                                            @Param("ownerId") Long ownerId);
+
+    @Query(value = "SELECT * FROM bookings WHERE item_id IN (:itemIds) " +
+            "AND status = 'APPROVED' " +
+            "AND start < :to AND ended > :from",
+            nativeQuery = true)
+    List<Booking> findApprovedBookingsForItemsBetween(@Param("itemIds") Collection<Long> itemIds,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:itemId)) AS item_lock", nativeQuery = true)
+    Integer lockItemForBooking(@Param("itemId") Long itemId);
+
     @Query(value = "SELECT * FROM bookings WHERE item_id = :itemId " +
             "AND booker_id = :userId " +
             "AND status = 'APPROVED' " +
@@ -122,6 +323,21 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("now") LocalDateTime now,
             Pageable pageable);
 
+    @Query(value = "SELECT id, start, ended, booker_id, item_id, status FROM (" +
+            "SELECT b.*, ROW_NUMBER() OVER (" +
+            "PARTITION BY b.item_id, b.start > :now " +
+            "ORDER BY CASE WHEN b.start > :now THEN b.start END ASC, b.ended DESC) AS rn " +
+            "FROM bookings b " +
+            "JOIN items i ON i.id = b.item_id " +
+            "WHERE i.owner_id = :ownerId " +
+            "AND b.status = 'APPROVED' " +
+            "AND ((b.booker_id = :ownerId AND b.ended < :now) OR b.start > :now)" +
+            ") ranked WHERE rn = 1",
+            nativeQuery = true)
+    List<Booking> findLastAndNextBookingsForOwnerItems(
+            @Param("ownerId") Long ownerId,
+            @Param("now") LocalDateTime now);
+
     @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END " +
             "FROM bookings WHERE booker_id = :bookerId " +
             "AND item_id = :itemId " +
@@ -0,0 +1,29 @@
+package ru.practicum.server.config;
+
+import org.flywaydb.core.api.Location;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+
+@Configuration
+public class FlywayConfig {
+
+    public static final String RANGE_TYPE_MIGRATIONS = "classpath:db/range-types";
+
+    @Bean
+    public FlywayConfigurationCustomizer rangeTypeMigrations(
+            @Value("${shareit.booking.range-types:true}") boolean rangeTypes) {
+        return configuration -> {
+            if (!rangeTypes) {
+                return;
+            }
+            Location[] current = configuration.getLocations();
+            Location[] locations = Arrays.copyOf(current, current.length + 1);
+            locations[current.length] = new Location(RANGE_TYPE_MIGRATIONS);
+            configuration.locations(locations);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.server.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+
+    private static final String QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties, MeterRegistry registry) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager manager = provider.getCacheManager(
+                URI.create("shareit:hibernate:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        for (String region : new String[]{USERS, ITEMS, QUERY_RESULTS}) {
+            SecondLevelCacheProperties.Region settings = properties.getRegions()
+                    .getOrDefault(region, new SecondLevelCacheProperties.Region());
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(settings.getMaxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(settings.getTtl().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            bindSize(registry, region, manager.createCache(region, configuration));
+        }
+
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        manager.createCache(UPDATE_TIMESTAMPS, timestamps);
+
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void bindSize(MeterRegistry registry, String region, Cache<Object, Object> cache) {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine =
+                cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        Gauge.builder("shareit.hibernate.cache.size", caffeine, c -> c.estimatedSize())
+                .tag("region", region)
+                .register(registry);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.hibernate.cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
@@ -1,15 +1,22 @@
 package ru.practicum.server.item;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.comment.CommentDto;
 import ru.practicum.dto.comment.RequestCommentDto;
+import ru.practicum.dto.item.ItemAvailabilityDto;
 import ru.practicum.dto.item.ItemDto;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -19,20 +26,14 @@ import java.util.List;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ItemImporter itemImporter;
 
     @PostMapping
     public ResponseEntity<ItemDto> create(@Valid @RequestBody ItemDto itemDto,
                                           @RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("""
-       === СОЗДАНИЕ ВЕЩИ ===
-       UserId: {}
-       Полученный ItemDto: {}
-       Поле name: {}
-       Поле description: {}
-       Поле available: {}
-       Поле request (маппится из requestId): {}""",
-                userId, itemDto, itemDto.getName(),
-                itemDto.getDescription(), itemDto.getAvailable(), itemDto.getRequest());
+        log.info("запрос на создание вещи от пользователя {}", userId);
+        log.debug("создание вещи: name={}, available={}, requestId={}",
+                itemDto.getName(), itemDto.getAvailable(), itemDto.getRequest());
 
         ItemDto createdItem = itemService.create(itemDto, userId);
         return ResponseEntity
@@ -40,6 +41,19 @@ public class ItemController {
                 .body(createdItem);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createBulk(@RequestHeader("X-Sharer-User-Id") Long userId,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        log.info("запрос на пакетный импорт вещей от пользователя {}", userId);
+        itemImporter.checkOwner(userId);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        itemImporter.importItems(userId, request.getInputStream(), response.getOutputStream());
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<ItemDto> update(@PathVariable Long id,
                                           @Valid @RequestBody ItemDto itemDto,
@@ -66,12 +80,34 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<List<ItemDto>> searchItem(@RequestParam String text,
-                                                    @RequestHeader("X-Sharer-User-Id") Long userId) {
+                                                    @RequestHeader("X-Sharer-User-Id") Long userId,
+                                                    @RequestParam(required = false) Integer from,
+                                                    @RequestParam(required = false) Integer size) {
         log.info("запрос на поиск вещей по тексту '{}' от пользователя {}", text, userId);
-        List<ItemDto> items = itemService.searchItem(text, userId);
+        List<ItemDto> items = itemService.searchItem(text, userId, from, size);
         return ResponseEntity.ok(items);
     }
 
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ItemAvailabilityDto> getItemAvailability(
+            @PathVariable Long id,
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("запрос свободных периодов вещи {} от пользователя {}", id, userId);
+        return ResponseEntity.ok(itemService.getAvailability(List.of(id), from, to).get(0));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<ItemAvailabilityDto>> getItemsAvailability(
+            @RequestParam List<Long> ids,
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("запрос свободных периодов вещей {} от пользователя {}", ids, userId);
+        return ResponseEntity.ok(itemService.getAvailability(ids, from, to));
+    }
+
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<CommentDto> addComment(
             @PathVariable Long itemId,
@@ -0,0 +1,155 @@
+package ru.practicum.server.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import ru.practicum.dto.item.ItemDto;
+import ru.practicum.dto.item.ItemImportResultDto;
+import ru.practicum.server.user.UserService;
+import ru.practicum.server.validation.ValidationTool;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+public class ItemImporter {
+
+    private static final String PROGRAM_LEVEL = "ItemImporter";
+
+    private final ItemService itemService;
+    private final UserService userService;
+    private final EntityManager entityManager;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public ItemImporter(ItemService itemService, UserService userService, EntityManager entityManager,
+                        ObjectMapper mapper, @Value("${shareit.item.import.chunk-size:1000}") int chunkSize) {
+        this.itemService = itemService;
+        this.userService = userService;
+        this.entityManager = entityManager;
+        this.reader = mapper.readerFor(ItemDto.class);
+        this.writer = mapper.writerFor(ItemImportResultDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public void checkOwner(Long userId) {
+        ValidationTool.checkId(userId, PROGRAM_LEVEL, "при импорте вещей user_id не должен равняться null");
+        userService.getUserById(userId);
+    }
+
+    public void importItems(Long userId, InputStream in, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        int created = 0;
+        int failed = 0;
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        BufferedWriter results = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        Map<Integer, ItemDto> items = new LinkedHashMap<>();
+        Map<Integer, ItemImportResultDto> chunk = new TreeMap<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ItemDto itemDto = parse(line);
+            if (itemDto != null) {
+                items.put(lineNumber, itemDto);
+            } else {
+                chunk.put(lineNumber, ItemImportResultDto.builder()
+                        .line(lineNumber)
+                        .error("строка не является корректным JSON вещи")
+                        .build());
+            }
+
+            if (items.size() + chunk.size() >= chunkSize) {
+                int chunkCreated = flushChunk(userId, items, chunk, results);
+                created += chunkCreated;
+                failed += chunk.size() - chunkCreated;
+                items.clear();
+                chunk.clear();
+            }
+        }
+        if (!items.isEmpty() || !chunk.isEmpty()) {
+            int chunkCreated = flushChunk(userId, items, chunk, results);
+            created += chunkCreated;
+            failed += chunk.size() - chunkCreated;
+        }
+        results.flush();
+
+        log.info("Импорт вещей для пользователя {}: создано {}, с ошибками {}, строк {} за {} мс",
+                userId, created, failed, lineNumber, System.currentTimeMillis() - started);
+    }
+
+    private ItemDto parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private int flushChunk(Long userId, Map<Integer, ItemDto> items, Map<Integer, ItemImportResultDto> chunk,
+                           BufferedWriter results) throws IOException {
+        if (!items.isEmpty()) {
+            for (ItemImportResultDto result : createChunk(userId, items)) {
+                chunk.put(result.getLine(), result);
+            }
+        }
+
+        int created = 0;
+        for (ItemImportResultDto result : chunk.values()) {
+            if (result.getId() != null) {
+                created++;
+            }
+            results.write(writer.writeValueAsString(result));
+            results.write('\n');
+        }
+        results.flush();
+
+        entityManager.clear();
+        return created;
+    }
+
+    private List<ItemImportResultDto> createChunk(Long userId, Map<Integer, ItemDto> items) {
+        try {
+            return itemService.createAll(items, userId);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Пакет вещей отклонён базой данных, повторяем построчно: {}", e.getMostSpecificCause().getMessage());
+        }
+
+        entityManager.clear();
+        return items.entrySet().stream()
+                .map(entry -> {
+                    try {
+                        return itemService.createAll(Map.of(entry.getKey(), entry.getValue()), userId).get(0);
+                    } catch (DataIntegrityViolationException e) {
+                        return ItemImportResultDto.builder()
+                                .line(entry.getKey())
+                                .error("вещь нарушает ограничения целостности данных")
+                                .build();
+                    }
+                })
+                .toList();
+    }
+}
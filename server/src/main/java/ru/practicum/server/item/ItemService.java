@@ -2,22 +2,33 @@ package ru.practicum.server.item;
 
 import ru.practicum.dto.comment.CommentDto;
 import ru.practicum.dto.comment.RequestCommentDto;
+import ru.practicum.dto.item.ItemAvailabilityDto;
 import ru.practicum.dto.item.ItemDto;
+import ru.practicum.dto.item.ItemImportResultDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ItemService {
     ItemDto create(ItemDto itemDto, Long userId);
 
+    List<ItemImportResultDto> createAll(Map<Integer, ItemDto> itemsByLine, Long userId);
+
     ItemDto update(Long id, ItemDto itemDto, Long userId);
 
     ItemDto getItemById(Long id);
 
+    List<ItemDto> getItemsByIds(Collection<Long> ids);
+
     ItemDto getItemByIdWithDetails(Long id, Long userId);
 
     List<ItemDto> getAllItemsByUser(Long userId);
 
-    List<ItemDto> searchItem(String text, Long userId);
+    List<ItemDto> searchItem(String text, Long userId, Integer from, Integer size);
+
+    List<ItemAvailabilityDto> getAvailability(List<Long> itemIds, LocalDateTime from, LocalDateTime to);
 
     CommentDto addComment(Long userId, Long itemId, RequestCommentDto requestCommentDto);
 }
\ No newline at end of file
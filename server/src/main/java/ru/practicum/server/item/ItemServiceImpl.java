@@ -1,5 +1,6 @@
 package ru.practicum.server.item;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -11,7 +12,11 @@ import ru.practicum.dto.comment.CommentDto;
 import ru.practicum.dto.comment.RequestCommentDto;
 import ru.practicum.dto.exception.NotFoundException;
 import ru.practicum.dto.exception.ValidationException;
+import ru.practicum.dto.item.ItemAvailabilityDto;
 import ru.practicum.dto.item.ItemDto;
+import ru.practicum.dto.item.ItemImportResultDto;
+import ru.practicum.dto.item.TimeSlotDto;
+import ru.practicum.dto.user.UserDto;
 import ru.practicum.server.booking.mapper.BookingMapper;
 import ru.practicum.server.booking.model.Booking;
 import ru.practicum.server.booking.repository.BookingRepository;
@@ -21,29 +26,38 @@ import ru.practicum.server.item.comment.repository.CommentRepository;
 import ru.practicum.server.item.mapper.ItemMapper;
 import ru.practicum.server.item.model.Item;
 import ru.practicum.server.item.repository.ItemRepository;
-import ru.practicum.server.user.model.User;
-import ru.practicum.server.user.repository.UserRepository;
+import ru.practicum.server.item.search.ItemSearch;
+import ru.practicum.server.lookup.RequestLookupCache;
+import ru.practicum.server.user.UserService;
 import ru.practicum.server.validation.ValidationTool;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository repository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final BookingMapper bookingMapper;
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
+    private final ItemSearch itemSearch;
+    private final RequestLookupCache lookups;
     private static final String PROGRAM_LEVEL = "ItemService";
 
     @Override
@@ -51,8 +65,7 @@ public class ItemServiceImpl implements ItemService {
     public ItemDto create(ItemDto itemDto, Long userId) {
         ValidationTool.checkId(userId, PROGRAM_LEVEL, "при создании вещи user_id не должен равняться null");
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("не найден владелец вещи по id = " + userId));
+        userService.getUserById(userId);
 
         validateItemFields(itemDto);
 
@@ -61,6 +74,7 @@ public class ItemServiceImpl implements ItemService {
 
         Item savedItem = repository.save(item);
         log.info("Создана вещь с ID: {} для пользователя с ID: {}", savedItem.getId(), userId);
+        itemSearch.onItemSaved(savedItem);
 
         ItemDto savedItemDto = itemMapper.toDto(savedItem);
         savedItemDto.setComments(Collections.emptyList());
@@ -68,6 +82,44 @@ public class ItemServiceImpl implements ItemService {
         return savedItemDto;
     }
 
+    @Override
+    @Transactional
+    public List<ItemImportResultDto> createAll(Map<Integer, ItemDto> itemsByLine, Long userId) {
+        ValidationTool.checkId(userId, PROGRAM_LEVEL, "при создании вещей user_id не должен равняться null");
+
+        userService.getUserById(userId);
+
+        List<ItemImportResultDto> results = new ArrayList<>(itemsByLine.size());
+        List<Item> items = new ArrayList<>(itemsByLine.size());
+        List<ItemImportResultDto> created = new ArrayList<>(itemsByLine.size());
+        itemsByLine.forEach((line, itemDto) -> {
+            ItemImportResultDto result = ItemImportResultDto.builder().line(line).build();
+            results.add(result);
+            try {
+                validateItemFields(itemDto);
+            } catch (ValidationException e) {
+                result.setError(e.getMessage());
+                return;
+            }
+            Item item = itemMapper.toEntity(itemDto);
+            item.setId(null);
+            item.setOwner(userId);
+            items.add(item);
+            created.add(result);
+        });
+
+        List<Item> savedItems = repository.saveAll(items);
+        repository.flush();
+        for (int i = 0; i < savedItems.size(); i++) {
+            Item savedItem = savedItems.get(i);
+            created.get(i).setId(savedItem.getId());
+            itemSearch.onItemSaved(savedItem);
+        }
+        log.debug("Создано {} вещей из {} строк для пользователя с ID: {}", savedItems.size(), results.size(), userId);
+
+        return results;
+    }
+
     @Override
     @Transactional
     public ItemDto update(Long id, ItemDto itemDto, Long userId) {
@@ -85,6 +137,9 @@ public class ItemServiceImpl implements ItemService {
         existingItem.setId(id);
 
         Item updatedItem = repository.save(existingItem);
+        itemSearch.onItemSaved(updatedItem);
+        lookups.evict(RequestLookupCache.ITEMS, id);
+        lookups.evict(RequestLookupCache.ITEM_SUMMARIES, id);
 
         ItemDto updatedItemDto = itemMapper.toDto(updatedItem);
         updatedItemDto.setComments(getCommentsForItem(id));
@@ -96,14 +151,28 @@ public class ItemServiceImpl implements ItemService {
     public ItemDto getItemById(Long id) {
         ValidationTool.checkId(id, PROGRAM_LEVEL, "вещь не может быть найдена по id = null");
 
-        Item item = repository.findById(id).orElseThrow(
-                () -> new NotFoundException("вещь с id = " + id + " не найдена")
-        );
+        return lookups.get(RequestLookupCache.ITEMS, id, itemId -> {
+            Item item = repository.findById(itemId).orElseThrow(
+                    () -> new NotFoundException("вещь с id = " + itemId + " не найдена")
+            );
 
-        ItemDto itemDto = itemMapper.toDto(item);
-        itemDto.setComments(getCommentsForItem(id));
+            ItemDto itemDto = itemMapper.toDto(item);
+            itemDto.setComments(getCommentsForItem(itemId));
 
-        return itemDto;
+            return itemDto;
+        });
+    }
+
+    @Override
+    public List<ItemDto> getItemsByIds(Collection<Long> ids) {
+        return lookups.getAll(RequestLookupCache.ITEM_SUMMARIES, ids, missing -> repository.findAllById(missing)
+                .stream()
+                .map(item -> {
+                    ItemDto itemDto = itemMapper.toDto(item);
+                    itemDto.setComments(Collections.emptyList());
+                    return itemDto;
+                })
+                .collect(Collectors.toList()), ItemDto::getId);
     }
 
     @Override
@@ -144,79 +213,123 @@ public class ItemServiceImpl implements ItemService {
         ValidationTool.checkId(userId, PROGRAM_LEVEL, "вещи не могут быть найдена по id_user = null");
 
         List<Item> items = repository.findAllByOwner(userId);
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingDto> lastBookings = new HashMap<>();
+        Map<Long, BookingDto> nextBookings = new HashMap<>();
+
+        for (Booking booking : bookingRepository.findLastAndNextBookingsForOwnerItems(userId, now)) {
+            if (booking.getStart().isAfter(now)) {
+                nextBookings.put(booking.getItem(), bookingMapper.toDto(booking));
+            } else {
+                lastBookings.put(booking.getItem(), bookingMapper.toDto(booking));
+            }
+        }
+
+        Map<Long, List<CommentDto>> comments = getCommentsForItems(items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList()));
 
         return items.stream()
-                .map(item -> {
-                    BookingDto lastBooking = bookingRepository
-                            .findLastBookingForItem(item.getId(), userId, now, PageRequest.of(0, 1))
-                            .stream()
-                            .findFirst()
-                            .map(bookingMapper::toDto)
-                            .orElse(null);
-
-                    BookingDto nextBooking = bookingRepository
-                            .findNextBookingForItem(item.getId(), now, PageRequest.of(0, 1))
-                            .stream()
-                            .findFirst()
-                            .map(bookingMapper::toDto)
-                            .orElse(null);
-
-                    List<CommentDto> comments = getCommentsForItem(item.getId());
-
-                    return itemMapper.toDto(item, lastBooking, nextBooking, comments);
-                })
+                .map(item -> itemMapper.toDto(item,
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        comments.getOrDefault(item.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<ItemDto> searchItem(String text, Long userId) {
+    public List<ItemDto> searchItem(String text, Long userId, Integer from, Integer size) {
+        int offset = from == null ? 0 : from;
+        int limit = size == null ? Integer.MAX_VALUE : size;
+        validatePagination(offset, limit);
         if (text == null || text.trim().isEmpty()) {
             return Collections.emptyList();
         }
         log.info("Поиск вещей по тексту: '{}' для пользователя {}", text, userId);
 
-        List<Item> items = repository.searchItem(text);
+        List<Item> items = itemSearch.search(text.trim(), offset, limit);
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<CommentDto>> comments = getCommentsForItems(items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList()));
 
         return items.stream()
                 .map(item -> {
                     ItemDto dto = itemMapper.toDto(item);
-                    dto.setComments(getCommentsForItem(item.getId()));
+                    dto.setComments(comments.getOrDefault(item.getId(), Collections.emptyList()));
                     return dto;
                 })
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ItemAvailabilityDto> getAvailability(List<Long> itemIds, LocalDateTime from, LocalDateTime to) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new ValidationException("необходимо указать хотя бы одну вещь");
+        }
+        itemIds.forEach(id -> ValidationTool.checkId(id, PROGRAM_LEVEL, "некорректный id вещи: " + id));
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("начало периода должно быть раньше его окончания");
+        }
+
+        Map<Long, Item> items = repository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        for (Long id : itemIds) {
+            if (!items.containsKey(id)) {
+                throw new NotFoundException("вещь с id = " + id + " не найдена");
+            }
+        }
+
+        Map<Long, List<Booking>> bookings = bookingRepository
+                .findActiveBookingsForItemsBetween(items.keySet(), from, to)
+                .stream()
+                .collect(Collectors.groupingBy(Booking::getItem));
+
+        return itemIds.stream()
+                .distinct()
+                .map(id -> ItemAvailabilityDto.builder()
+                        .itemId(id)
+                        .from(from)
+                        .to(to)
+                        .freeSlots(Boolean.TRUE.equals(items.get(id).getAvailable())
+                                ? getFreeSlots(bookings.getOrDefault(id, Collections.emptyList()), from, to)
+                                : Collections.emptyList())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public CommentDto addComment(Long userId, Long itemId, RequestCommentDto requestCommentDto) {
-        log.info("========== ДОБАВЛЕНИЕ КОММЕНТАРИЯ ==========");
         log.info("Добавление комментария к вещи с ID={} от пользователя с ID={}", itemId, userId);
-        log.info("Текст комментария: {}", requestCommentDto.getText());
 
         if (requestCommentDto.getText() == null || requestCommentDto.getText().isBlank()) {
             log.error("Текст комментария пустой");
             throw new ValidationException("Текст комментария не может быть пустым");
         }
 
-        User author = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь с ID " + userId + " не найден"));
-        log.info("Автор найден: {} (ID={})", author.getName(), author.getId());
+        UserDto author = userService.getUserById(userId);
 
-        Item item = repository.findById(itemId)
-                .orElseThrow(() -> new NotFoundException("Вещь с ID " + itemId + " не найдена"));
-        log.info("Вещь найдена: {} (ID={})", item.getName(), item.getId());
+        if (!repository.existsById(itemId)) {
+            throw new NotFoundException("Вещь с ID " + itemId + " не найдена");
+        }
 
         LocalDateTime now = LocalDateTime.now();
-        log.info("Текущее время: {}", now);
 
         List<Booking> approvedBookings = bookingRepository.findByBookerAndItemAndStatus(
                 userId, itemId, Status.APPROVED);
 
-        log.info("APPROVED бронирований пользователя {} для вещи {}: {}", userId, itemId, approvedBookings.size());
+        log.debug("APPROVED бронирований пользователя {} для вещи {}: {}", userId, itemId, approvedBookings.size());
 
         if (approvedBookings.isEmpty()) {
-            log.error("❌ У пользователя {} нет APPROVED бронирований для вещи {}", userId, itemId);
+            log.warn("У пользователя {} нет APPROVED бронирований для вещи {}", userId, itemId);
             throw new ValidationException("Вы можете комментировать только после подтверждённого бронирования");
         }
 
@@ -225,22 +338,17 @@ public class ItemServiceImpl implements ItemService {
 
         for (Booking booking : approvedBookings) {
             boolean isPast = booking.getEnd().isBefore(now);
-            log.info("Бронирование: ID={}, статус={}, start={}, end={}, PAST? {}",
-                    booking.getId(), booking.getStatus(), booking.getStart(), booking.getEnd(),
-                    isPast);
+            log.debug("Бронирование: ID={}, start={}, end={}, PAST? {}",
+                    booking.getId(), booking.getStart(), booking.getEnd(), isPast);
 
             if (isPast) {
                 hasPastBooking = true;
-                log.info("✅ Найдено PAST (завершённое) бронирование с ID={}", booking.getId());
             } else {
                 hasActiveBooking = true;
-                log.info("⏳ Найдено ACTIVE (активное) бронирование с ID={}", booking.getId());
             }
         }
 
         if (hasPastBooking) {
-            log.info("✅ Есть завершённое бронирование - создаём комментарий");
-
             Comment comment = Comment.builder()
                     .text(requestCommentDto.getText())
                     .itemId(itemId)
@@ -249,34 +357,48 @@ public class ItemServiceImpl implements ItemService {
                     .build();
 
             Comment savedComment = commentRepository.save(comment);
-            log.info("✅ Комментарий сохранён с ID: {}", savedComment.getId());
+            lookups.evict(RequestLookupCache.ITEMS, itemId);
+            log.info("Комментарий {} к вещи {} сохранён", savedComment.getId(), itemId);
 
             CommentDto savedCommentDto = commentMapper.toDto(savedComment);
             savedCommentDto.setAuthorName(author.getName());
 
-            log.info("✅ Добавлен комментарий: {}", savedCommentDto);
             return savedCommentDto;
         }
 
         if (hasActiveBooking && !hasPastBooking) {
-            log.error("❌ У пользователя {} есть только активные APPROVED бронирования для вещи {}", userId, itemId);
+            log.warn("У пользователя {} есть только активные APPROVED бронирования для вещи {}", userId, itemId);
             throw new ValidationException("Нельзя оставить комментарий до завершения аренды");
         }
 
         throw new ValidationException("Нет подходящих бронирований");
     }
 
+    private List<TimeSlotDto> getFreeSlots(List<Booking> bookings, LocalDateTime from, LocalDateTime to) {
+        List<TimeSlotDto> slots = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        for (Booking booking : bookings) {
+            if (booking.getStart().isAfter(cursor)) {
+                slots.add(new TimeSlotDto(cursor, booking.getStart()));
+            }
+            if (booking.getEnd().isAfter(cursor)) {
+                cursor = booking.getEnd();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            slots.add(new TimeSlotDto(cursor, to));
+        }
+        return slots;
+    }
+
     private List<CommentDto> getCommentsForItem(Long itemId) {
-        List<Comment> comments = commentRepository.findByItemId(itemId);
+        return commentRepository.findCommentDtosByItemIds(List.of(itemId));
+    }
 
-        return comments.stream()
-                .map(comment -> {
-                    CommentDto dto = commentMapper.toDto(comment);
-                    userRepository.findById(comment.getAuthorId())
-                            .ifPresent(author -> dto.setAuthorName(author.getName()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    private Map<Long, List<CommentDto>> getCommentsForItems(Collection<Long> itemIds) {
+        return commentRepository.findCommentDtosByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(CommentDto::getItemId));
     }
 
     private void validateItemFields(ItemDto itemDto) {
@@ -290,4 +412,13 @@ public class ItemServiceImpl implements ItemService {
             throw new ValidationException("статус доступности вещи должен быть указан");
         }
     }
+
+    private void validatePagination(Integer from, Integer size) {
+        if (from < 0) {
+            throw new ValidationException("Параметр 'from' не может быть отрицательным");
+        }
+        if (size <= 0) {
+            throw new ValidationException("Параметр 'size' должен быть положительным");
+        }
+    }
 }
\ No newline at end of file
@@ -1,13 +1,24 @@
 package ru.practicum.server.item.comment.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.dto.comment.CommentDto;
 import ru.practicum.server.item.comment.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByItemId(Long itemId);
 
+    @Query("SELECT new ru.practicum.dto.comment.CommentDto(c.id, c.text, u.name, c.itemId, c.authorId, c.created) " +
+            "FROM Comment c " +
+            "JOIN User u ON u.id = c.authorId " +
+            "WHERE c.itemId IN :itemIds " +
+            "ORDER BY c.created")
+    List<CommentDto> findCommentDtosByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
     void deleteByAuthorId(Long authorId);
 }
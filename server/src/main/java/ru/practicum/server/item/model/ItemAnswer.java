@@ -0,0 +1,10 @@
+package ru.practicum.server.item.model;
+
+import ru.practicum.dto.item.ItemResponseDto;
+
+public record ItemAnswer(Long requestId, Long itemId, String name, Long ownerId) {
+
+    public ItemResponseDto toResponseDto() {
+        return new ItemResponseDto(itemId, name, ownerId);
+    }
+}
@@ -1,22 +1,61 @@
 package ru.practicum.server.item.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.model.ItemAnswer;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Item> findAllByOwner(Long userId);
 
-    @Query("SELECT i FROM Item i " +
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Item> findAllById(Iterable<Long> ids);
+
+    @Query(value = "SELECT i.id, i.name, i.description, i.available, i.owner_id, i.request_id " +
+            "FROM items i " +
             "WHERE (UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
             "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%'))) " +
-            "AND i.available = true")
-    List<Item> searchItem(@Param("text") String text);
+            "AND i.available = true " +
+            "ORDER BY i.id " +
+            "LIMIT :size OFFSET :from",
+            nativeQuery = true)
+    List<Item> searchItem(@Param("text") String text,
+                          @Param("from") int from,
+                          @Param("size") int size);
+
+    @Query(value = "SELECT i.id, i.name, i.description, i.available, i.owner_id, i.request_id " +
+            "FROM items i " +
+            "WHERE i.available " +
+            "AND (i.search_vector @@ plainto_tsquery('simple', :text) " +
+            "OR i.name ILIKE :pattern " +
+            "OR i.description ILIKE :pattern) " +
+            "ORDER BY ts_rank(i.search_vector, plainto_tsquery('simple', :text)) DESC, i.id " +
+            "LIMIT :size OFFSET :from",
+            nativeQuery = true)
+    List<Item> searchItemRanked(@Param("text") String text,
+                                @Param("pattern") String pattern,
+                                @Param("from") int from,
+                                @Param("size") int size);
+
+    @Query("SELECT i.id FROM Item i WHERE i.owner = :ownerId")
+    List<Long> findIdsByOwner(@Param("ownerId") Long ownerId);
 
     @Query("SELECT i FROM Item i WHERE i.request = :requestId")
     List<Item> findByRequestId(@Param("requestId") Long requestId);
+
+    @Query("SELECT new ru.practicum.server.item.model.ItemAnswer(i.request, i.id, i.name, i.owner) " +
+            "FROM Item i " +
+            "WHERE i.request IN :requestIds " +
+            "ORDER BY i.id")
+    List<ItemAnswer> findAnswersByRequestIds(@Param("requestIds") Collection<Long> requestIds);
 }
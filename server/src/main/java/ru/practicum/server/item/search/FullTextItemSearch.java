@@ -0,0 +1,28 @@
+package ru.practicum.server.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.repository.ItemRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search.engine", havingValue = "fulltext", matchIfMissing = true)
+public class FullTextItemSearch implements ItemSearch {
+
+    private final ItemRepository repository;
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        return repository.searchItemRanked(text, "%" + escapeLikePattern(text) + "%", from, size);
+    }
+
+    private static String escapeLikePattern(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
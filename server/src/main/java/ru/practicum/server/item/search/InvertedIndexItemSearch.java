@@ -0,0 +1,110 @@
+package ru.practicum.server.item.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search.engine", havingValue = "index")
+public class InvertedIndexItemSearch implements ItemSearch {
+
+    private static final int BUILD_PAGE_SIZE = 1000;
+    private static final int FETCH_SIZE = 100;
+
+    private final ItemRepository repository;
+    private final ItemSearchIndex index = new ItemSearchIndex();
+
+    @PostConstruct
+    public void build() {
+        long started = System.currentTimeMillis();
+        Page<Item> page = repository.findAll(PageRequest.of(0, BUILD_PAGE_SIZE, Sort.by("id")));
+        while (true) {
+            page.forEach(this::put);
+            if (!page.hasNext()) {
+                break;
+            }
+            page = repository.findAll(page.nextPageable());
+        }
+        log.info("Поисковый индекс вещей построен: {} вещей за {} мс",
+                index.size(), System.currentTimeMillis() - started);
+    }
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        long[] ids = index.search(text);
+        if (from >= ids.length) {
+            return Collections.emptyList();
+        }
+
+        List<Item> page = new ArrayList<>(Math.min(size, ids.length - from));
+        int skipped = 0;
+        for (int start = 0; start < ids.length && page.size() < size; start += FETCH_SIZE) {
+            List<Long> chunk = new ArrayList<>(FETCH_SIZE);
+            for (int i = start; i < ids.length && i < start + FETCH_SIZE; i++) {
+                chunk.add(ids[i]);
+            }
+            Map<Long, Item> items = repository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+            for (Long id : chunk) {
+                Item item = items.get(id);
+                if (item == null || !Boolean.TRUE.equals(item.getAvailable())) {
+                    continue;
+                }
+                if (skipped < from) {
+                    skipped++;
+                } else if (page.size() < size) {
+                    page.add(item);
+                }
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void onItemSaved(Item item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(item);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(item);
+            }
+        });
+    }
+
+    @Override
+    public void onOwnerDeleted(Long ownerId) {
+        List<Long> itemIds = repository.findIdsByOwner(ownerId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                itemIds.forEach(index::remove);
+            }
+        });
+    }
+
+    private void put(Item item) {
+        index.put(item.getId(), item.getName(), item.getDescription(), Boolean.TRUE.equals(item.getAvailable()));
+    }
+}
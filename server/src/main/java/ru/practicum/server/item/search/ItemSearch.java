@@ -0,0 +1,16 @@
+package ru.practicum.server.item.search;
+
+import ru.practicum.server.item.model.Item;
+
+import java.util.List;
+
+public interface ItemSearch {
+
+    List<Item> search(String text, int from, int size);
+
+    default void onItemSaved(Item item) {
+    }
+
+    default void onOwnerDeleted(Long ownerId) {
+    }
+}
@@ -0,0 +1,187 @@
+package ru.practicum.server.item.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class ItemSearchIndex {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final ConcurrentSkipListMap<String, long[]> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, String[]> itemTokens = new ConcurrentHashMap<>();
+
+    public void put(long itemId, String name, String description, boolean available) {
+        String[] indexed = available ? tokensOf(name, description) : NO_TOKENS;
+
+        itemTokens.compute(itemId, (id, previous) -> {
+            List<String> before = previous == null ? List.of() : Arrays.asList(previous);
+            List<String> after = Arrays.asList(indexed);
+            for (String token : before) {
+                if (!after.contains(token)) {
+                    removePosting(token, itemId);
+                }
+            }
+            for (String token : after) {
+                if (!before.contains(token)) {
+                    addPosting(token, itemId);
+                }
+            }
+            return indexed.length == 0 ? null : indexed;
+        });
+    }
+
+    public void remove(long itemId) {
+        put(itemId, "", "", false);
+    }
+
+    public long[] search(String text) {
+        Set<String> queryTokens = tokenize(text);
+        if (queryTokens.isEmpty()) {
+            return NO_IDS;
+        }
+
+        long[] result = null;
+        for (String token : queryTokens) {
+            long[] matches = prefixMatches(token);
+            result = result == null ? matches : intersect(result, matches);
+            if (result.length == 0) {
+                return NO_IDS;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return itemTokens.size();
+    }
+
+    private static String[] tokensOf(String name, String description) {
+        Set<String> tokens = tokenize(name);
+        tokens.addAll(tokenize(description));
+        return tokens.toArray(NO_TOKENS);
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private long[] prefixMatches(String prefix) {
+        Collection<long[]> lists = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        List<long[]> snapshot = new ArrayList<>(lists);
+        if (snapshot.isEmpty()) {
+            return NO_IDS;
+        }
+        if (snapshot.size() == 1) {
+            return snapshot.get(0);
+        }
+        int total = 0;
+        for (long[] ids : snapshot) {
+            total += ids.length;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (long[] ids : snapshot) {
+            System.arraycopy(ids, 0, merged, offset, ids.length);
+            offset += ids.length;
+        }
+        Arrays.sort(merged);
+
+        int size = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (size == 0 || merged[i] != merged[size - 1]) {
+                merged[size++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    private void addPosting(String token, long itemId) {
+        while (true) {
+            long[] current = postings.get(token);
+            if (current == null) {
+                if (postings.putIfAbsent(token, new long[]{itemId}) == null) {
+                    return;
+                }
+                continue;
+            }
+            int position = Arrays.binarySearch(current, itemId);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            long[] next = new long[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insertAt);
+            next[insertAt] = itemId;
+            System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+            if (postings.replace(token, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void removePosting(String token, long itemId) {
+        while (true) {
+            long[] current = postings.get(token);
+            if (current == null) {
+                return;
+            }
+            int position = Arrays.binarySearch(current, itemId);
+            if (position < 0) {
+                return;
+            }
+            if (current.length == 1) {
+                if (postings.remove(token, current)) {
+                    return;
+                }
+                continue;
+            }
+            long[] next = new long[current.length - 1];
+            System.arraycopy(current, 0, next, 0, position);
+            System.arraycopy(current, position + 1, next, position, current.length - position - 1);
+            if (postings.replace(token, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.server.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.repository.ItemRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search.engine", havingValue = "like")
+public class LikeItemSearch implements ItemSearch {
+
+    private final ItemRepository repository;
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        return repository.searchItem(text, from, size);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.server.lookup;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class RequestLookupCache {
+
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+    public static final String ITEM_SUMMARIES = "item-summaries";
+
+    private static final String ATTRIBUTE = RequestLookupCache.class.getName();
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(String region, Long id, Function<Long, V> loader) {
+        Map<Long, Object> entries = region(region);
+        if (entries == null) {
+            return loader.apply(id);
+        }
+        Object cached = entries.get(id);
+        if (cached != null) {
+            return (V) cached;
+        }
+        V value = loader.apply(id);
+        entries.put(id, value);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> List<V> getAll(String region, Collection<Long> ids, Function<Collection<Long>, List<V>> loader,
+                              Function<V, Long> idOf) {
+        Map<Long, Object> entries = region(region);
+        if (entries == null) {
+            return loader.apply(ids);
+        }
+        List<V> result = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Object cached = entries.get(id);
+            if (cached != null) {
+                result.add((V) cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (V value : loader.apply(missing)) {
+                entries.put(idOf.apply(value), value);
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public void evict(String region, Long id) {
+        Map<Long, Object> entries = region(region);
+        if (entries != null) {
+            entries.remove(id);
+        }
+    }
+
+    public void evictAll(String region) {
+        Map<Long, Object> entries = region(region);
+        if (entries != null) {
+            entries.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Object> region(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Map<Long, Object>> regions =
+                (Map<String, Map<Long, Object>>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (regions == null) {
+            regions = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, regions, RequestAttributes.SCOPE_REQUEST);
+        }
+        return regions.computeIfAbsent(name, key -> new HashMap<>());
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.server.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> counter = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        counter.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        counter.get()[0] = 0;
+    }
+
+    public int count() {
+        return counter.get()[0];
+    }
+}
@@ -2,8 +2,10 @@ package ru.practicum.server.request;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.request.ItemRequestDto;
+import ru.practicum.server.pagination.SeekCursor;
 
 import java.util.List;
 
@@ -29,11 +31,22 @@ public class ItemRequestController {
 
     @GetMapping("/all")
     @ResponseStatus(HttpStatus.OK)
-    public List<ItemRequestDto> getAllRequests(
+    public ResponseEntity<List<ItemRequestDto>> getAllRequests(
             @RequestHeader("X-Sharer-User-Id") Long userId,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size) {
-        return requestService.getAllRequests(userId, from, size);
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor == null) {
+            return ResponseEntity.ok(requestService.getAllRequests(userId, from, size));
+        }
+        List<ItemRequestDto> requests = requestService.getAllRequestsAfter(userId, SeekCursor.decode(cursor), size);
+        if (requests.size() < size) {
+            return ResponseEntity.ok(requests);
+        }
+        ItemRequestDto last = requests.get(requests.size() - 1);
+        return ResponseEntity.ok()
+                .header(SeekCursor.NEXT_CURSOR_HEADER, new SeekCursor(last.getCreated(), last.getId()).encode())
+                .body(requests);
     }
 
     @PostMapping
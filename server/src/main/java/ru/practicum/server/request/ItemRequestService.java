@@ -1,6 +1,7 @@
 package ru.practicum.server.request;
 
 import ru.practicum.dto.request.ItemRequestDto;
+import ru.practicum.server.pagination.SeekCursor;
 
 import java.util.List;
 
@@ -12,5 +13,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getAllRequests(Long userId,Integer from,Integer size);
 
+    List<ItemRequestDto> getAllRequestsAfter(Long userId, SeekCursor cursor, Integer size);
+
     ItemRequestDto createRequest(Long userId, ItemRequestDto itemRequestDto);
 }
\ No newline at end of file
@@ -1,51 +1,51 @@
 package ru.practicum.server.request;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.dto.exception.NotFoundException;
+import ru.practicum.dto.exception.ValidationException;
 import ru.practicum.dto.item.ItemResponseDto;
 import ru.practicum.dto.request.ItemRequestDto;
-import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.model.ItemAnswer;
 import ru.practicum.server.item.repository.ItemRepository;
+import ru.practicum.server.pagination.SeekCursor;
 import ru.practicum.server.request.mapper.ItemRequestMapper;
 import ru.practicum.server.request.model.ItemRequest;
 import ru.practicum.server.request.repository.ItemRequestRepository;
-import ru.practicum.server.user.model.User;
-import ru.practicum.server.user.repository.UserRepository;
+import ru.practicum.server.user.UserService;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRequestMapper itemRequestMapper;
 
     @Override
     public ItemRequestDto getRequestById(Long userId, Long requestId) {
         log.info("Получение запроса на вещь с id={}", requestId);
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден!"));
+        userService.getUserById(userId);
 
         ItemRequest request = itemRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Запрос не найден"));
 
-        List<Item> relatedItems = itemRepository.findByRequestId(requestId);
-        log.info("Найдено {} вещей, связанных с запросом id={}", relatedItems.size(), requestId);
-        List<ItemResponseDto> itemResponseDtos = getItemResponses(relatedItems);
-        ItemRequestDto result = itemRequestMapper.toItemRequestDtoWithItems(request, itemResponseDtos);
+        ItemRequestDto result = toDtosWithAnswers(List.of(request)).get(0);
         log.info("Получен запрос на вещь: {}", result);
         return result;
     }
@@ -55,14 +55,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         log.info("Получение всех запросов пользователя с id={}", userId);
         List<ItemRequest> requests = itemRequestRepository.findByRequesterIdOrderByCreatedDesc(userId);
         log.info("Найдено {} запросов для пользователя с id={}", requests.size(), userId);
-        return requests.stream()
-                .map(request -> {
-                    List<ItemResponseDto> answers = getItemResponses(itemRepository.findByRequestId(request.getId()));
-                    ItemRequestDto requestDto = itemRequestMapper.toItemRequestDtoWithItems(request, answers);
-                    log.info("Обработан запрос с id={}", request.getId());
-                    return requestDto;
-                })
-                .collect(Collectors.toList());
+        return toDtosWithAnswers(requests);
     }
 
     @Override
@@ -71,21 +64,19 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         Pageable pageable = PageRequest.of(from / size, size);
         List<ItemRequest> requests = itemRequestRepository.findByRequesterIdNotOrderByCreatedDesc(userId, pageable);
         log.info("Найдено {} запросов", requests.size());
-        return requests.stream()
-                .map(request -> {
-                    List<ItemResponseDto> answers = itemRepository.findByRequestId(request.getId())
-                            .stream()
-                            .map(item -> new ItemResponseDto(
-                                    item.getId(),
-                                    item.getName(),
-                                    item.getOwner()
-                            ))
-                            .collect(Collectors.toList());
-                    ItemRequestDto requestDto = itemRequestMapper.toItemRequestDtoWithItems(request, answers);
-                    log.info("Обработан запрос с id={}", request.getId());
-                    return requestDto;
-                })
-                .collect(Collectors.toList());
+        return toDtosWithAnswers(requests);
+    }
+
+    @Override
+    public List<ItemRequestDto> getAllRequestsAfter(Long userId, SeekCursor cursor, Integer size) {
+        log.info("Получение страницы запросов, кроме пользователя с id={}, после курсора", userId);
+        if (size <= 0) {
+            throw new ValidationException("Параметр 'size' должен быть положительным");
+        }
+        List<ItemRequest> requests = itemRequestRepository.findByRequesterIdNotAfter(
+                userId, cursor.position(), cursor.id(), PageRequest.of(0, size));
+        log.info("Найдено {} запросов", requests.size());
+        return toDtosWithAnswers(requests);
     }
 
     @Override
@@ -94,28 +85,30 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         log.info("Создание нового запроса на вещь от пользователя с id={}", userId);
         ItemRequest request = itemRequestMapper.toItemRequest(itemRequestDto);
 
-        User owner = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден!"));
+        userService.getUserById(userId);
 
-        request.setRequestor(owner.getId());
+        request.setRequestor(userId);
         request.setCreated(LocalDateTime.now());
         ItemRequest savedRequest = itemRequestRepository.save(request);
         log.info("Создан запрос на вещь с id={}", savedRequest.getId());
         return itemRequestMapper.toItemRequestDtoWithItems(savedRequest, List.of());
     }
 
-    private List<ItemResponseDto> getItemResponses(List<Item> relatedItems) {
-        log.info("Формирование списка ответов для {} вещей", relatedItems.size());
-        return relatedItems.stream()
-                .map(item -> {
-                    ItemResponseDto itemResponseDto = new ItemResponseDto(
-                            item.getId(),
-                            item.getName(),
-                            item.getOwner()
-                    );
-                    log.debug("Создан ответ для вещи с id={}", item.getId());
-                    return itemResponseDto;
-                })
+    private List<ItemRequestDto> toDtosWithAnswers(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<ItemResponseDto>> answers = itemRepository.findAnswersByRequestIds(requests.stream()
+                        .map(ItemRequest::getId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(ItemAnswer::requestId,
+                        Collectors.mapping(ItemAnswer::toResponseDto, Collectors.toList())));
+
+        return requests.stream()
+                .map(request -> itemRequestMapper.toItemRequestDtoWithItems(request,
+                        answers.getOrDefault(request.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.server.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
@@ -15,4 +16,12 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
 
     @Query("SELECT ir FROM ItemRequest ir WHERE ir.requestor <> :userId ORDER BY ir.created DESC")
     List<ItemRequest> findByRequesterIdNotOrderByCreatedDesc(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT ir FROM ItemRequest ir WHERE ir.requestor <> :userId " +
+            "AND (ir.created < :cursorCreated OR (ir.created = :cursorCreated AND ir.id < :cursorId)) " +
+            "ORDER BY ir.created DESC, ir.id DESC")
+    List<ItemRequest> findByRequesterIdNotAfter(@Param("userId") Long userId,
+                                                @Param("cursorCreated") LocalDateTime cursorCreated,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package ru.practicum.server.user;
 
 import ru.practicum.dto.user.UserDto;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserService {
 
     UserDto create(UserDto user);
@@ -10,5 +13,7 @@ public interface UserService {
 
     UserDto getUserById(Long id);
 
+    List<UserDto> getUsersByIds(Collection<Long> ids);
+
     void deleteUserById(Long id);
 }
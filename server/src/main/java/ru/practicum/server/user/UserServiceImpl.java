@@ -1,25 +1,42 @@
 package ru.practicum.server.user;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.dto.exception.InternalServerException;
 import ru.practicum.dto.exception.NotFoundException;
 import ru.practicum.dto.user.UserDto;
+import ru.practicum.server.item.model.Item;
+import ru.practicum.server.item.search.ItemSearch;
+import ru.practicum.server.lookup.RequestLookupCache;
 import ru.practicum.server.user.mapper.UserMapper;
 import ru.practicum.server.user.model.User;
 import ru.practicum.server.user.repository.UserRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 public class UserServiceImpl implements UserService {
 
     private final UserRepository repository;
     private final UserMapper userMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RequestLookupCache lookups;
+    private final ItemSearch itemSearch;
     private static final String PROGRAM_LEVEL = "UserService";
 
     @Override
@@ -79,6 +96,7 @@ public class UserServiceImpl implements UserService {
 
         try {
             User updatedUser = repository.save(existingUser);
+            lookups.evict(RequestLookupCache.USERS, id);
             log.info("Пользователь с id {} успешно обновлен", id);
             return userMapper.toDto(updatedUser);
         } catch (DataIntegrityViolationException e) {
@@ -93,9 +111,15 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDto getUserById(Long id) {
         log.info("Получение пользователя с id: {}", id);
-        User user = repository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Пользователь с ID " + id + " не найден"));
-        return userMapper.toDto(user);
+        return lookups.get(RequestLookupCache.USERS, id, userId -> userMapper.toDto(repository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Пользователь с ID " + userId + " не найден"))));
+    }
+
+    @Override
+    public List<UserDto> getUsersByIds(Collection<Long> ids) {
+        return lookups.getAll(RequestLookupCache.USERS, ids, missing -> repository.findAllById(missing).stream()
+                .map(userMapper::toDto)
+                .collect(Collectors.toList()), UserDto::getId);
     }
 
     @Override
@@ -105,7 +129,23 @@ public class UserServiceImpl implements UserService {
         if (!repository.existsById(id)) {
             throw new NotFoundException("Пользователь с ID " + id + " не найден");
         }
+        itemSearch.onOwnerDeleted(id);
         repository.deleteById(id);
+        lookups.evict(RequestLookupCache.USERS, id);
+        lookups.evictAll(RequestLookupCache.ITEMS);
+        lookups.evictAll(RequestLookupCache.ITEM_SUMMARIES);
+        evictCascadedItems();
         log.info("Пользователь с id {} удален", id);
     }
+
+    private void evictCascadedItems() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(Item.class);
+                cache.evictDefaultQueryRegion();
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,2 @@
+ALTER TABLE comments
+    ALTER COLUMN created TYPE TIMESTAMP WITH TIME ZONE USING created AT TIME ZONE 'UTC';
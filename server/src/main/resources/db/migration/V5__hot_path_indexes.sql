@@ -0,0 +1,7 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_booker_start_idx ON bookings (booker_id, start, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_item_status_start_idx ON bookings (item_id, status, start);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_item_status_ended_idx ON bookings (item_id, status, ended);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS items_owner_idx ON items (owner_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS items_request_idx ON items (request_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS comments_item_idx ON comments (item_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_requestor_started_idx ON requests (requestor_id, started);
@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_started_id_idx ON requests (started, id);
@@ -0,0 +1,5 @@
+ALTER TABLE users ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE requests ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE items ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE bookings ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE comments ALTER COLUMN id SET INCREMENT BY 50;
@@ -0,0 +1,10 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ALTER COLUMN ended SET NOT NULL;
+
+ALTER TABLE bookings
+    ADD COLUMN IF NOT EXISTS period TSRANGE GENERATED ALWAYS AS (tsrange(start, ended, '[)')) STORED;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT bookings_approved_no_overlap
+        EXCLUDE USING gist (item_id WITH =, period WITH &&) WHERE (status = 'APPROVED');
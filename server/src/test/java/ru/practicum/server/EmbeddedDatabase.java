@@ -0,0 +1,61 @@
+package ru.practicum.server;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class EmbeddedDatabase {
+
+    public static final String USER = "postgres";
+    public static final String PASSWORD = "postgres";
+
+    private static EmbeddedPostgres postgres;
+    private static final Set<String> CREATED = new HashSet<>();
+
+    private EmbeddedDatabase() {
+    }
+
+    public static synchronized String url(String database) {
+        EmbeddedPostgres server = server();
+        if (CREATED.add(database)) {
+            try (Connection connection = server.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("CREATE DATABASE " + database);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Не удалось создать базу " + database, e);
+            }
+        }
+        return server.getJdbcUrl(USER, database);
+    }
+
+    public static void register(DynamicPropertyRegistry registry, String database) {
+        registry.add("spring.datasource.url", () -> url(database));
+        registry.add("spring.datasource.username", () -> USER);
+        registry.add("spring.datasource.password", () -> PASSWORD);
+    }
+
+    private static EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // процесс всё равно завершается
+                }
+            }));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,171 @@
+package ru.practicum.server;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.server.booking.repository.BookingRepository;
+import ru.practicum.server.config.FlywayConfig;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryPlanTest {
+
+    private static final String DATABASE = "query_plans";
+    private static final Pattern PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final Map<String, String> PARAMETERS = Map.ofEntries(
+            Map.entry("userId", "7"),
+            Map.entry("bookerId", "7"),
+            Map.entry("ownerId", "7"),
+            Map.entry("itemId", "42"),
+            Map.entry("itemIds", "42, 43, 44"),
+            Map.entry("status", "'APPROVED'"),
+            Map.entry("now", "LOCALTIMESTAMP"),
+            Map.entry("cursorStart", "LOCALTIMESTAMP"),
+            Map.entry("cursorId", "9223372036854775807"),
+            Map.entry("from", "LOCALTIMESTAMP"),
+            Map.entry("start", "LOCALTIMESTAMP"),
+            Map.entry("to", "LOCALTIMESTAMP + INTERVAL '7 days'"),
+            Map.entry("end", "LOCALTIMESTAMP + INTERVAL '7 days'"),
+            Map.entry("size", "20"));
+
+    @BeforeAll
+    static void seed() throws SQLException {
+        String url = EmbeddedDatabase.url(DATABASE);
+        Flyway.configure()
+                .dataSource(url, EmbeddedDatabase.USER, EmbeddedDatabase.PASSWORD)
+                .locations("classpath:db/migration", FlywayConfig.RANGE_TYPE_MIGRATIONS)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (id, name, email) " +
+                    "SELECT g, 'user ' || g, 'user' || g || '@shareit.test' FROM generate_series(1, 2000) g");
+            statement.execute("INSERT INTO requests (id, description, requestor_id, started) " +
+                    "SELECT g, 'request ' || g, 1 + g % 2000, LOCALTIMESTAMP - g * INTERVAL '1 minute' " +
+                    "FROM generate_series(1, 20000) g");
+            statement.execute("INSERT INTO items (id, name, description, available, owner_id, request_id) " +
+                    "SELECT g, 'item ' || g, 'description ' || g, g % 10 <> 0, 1 + g % 2000, " +
+                    "CASE WHEN g % 4 = 0 THEN 1 + g % 20000 END " +
+                    "FROM generate_series(1, 20000) g");
+            statement.execute("INSERT INTO bookings (id, start, ended, booker_id, item_id, status) " +
+                    "SELECT g, LOCALTIMESTAMP + (g / 20000 * 100 + g % 90 - 500) * INTERVAL '1 day', " +
+                    "LOCALTIMESTAMP + (g / 20000 * 100 + g % 90 - 498) * INTERVAL '1 day', " +
+                    "1 + g % 1999, 1 + g % 20000, " +
+                    "(ARRAY['WAITING', 'APPROVED', 'REJECTED'])[1 + g % 3] " +
+                    "FROM generate_series(1, 200000) g");
+            statement.execute("INSERT INTO comments (id, text, item_id, author_id, created) " +
+                    "SELECT g, 'comment ' || g, 1 + g % 20000, 1 + g % 2000, now() " +
+                    "FROM generate_series(1, 50000) g");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    static Stream<Arguments> bookingQueries() {
+        return Stream.of(
+                Arguments.of("findCurrentByBookerId", "bookings_booker_start_idx"),
+                Arguments.of("findPastByBookerId", "bookings_booker_start_idx"),
+                Arguments.of("findFutureByBookerId", "bookings_booker_start_idx"),
+                Arguments.of("findByBookerAfter", "bookings_booker_start_idx"),
+                Arguments.of("findByBookerAndStatusAfter", "bookings_booker_start_idx"),
+                Arguments.of("findByItemOwnerIdAfter", "items_owner_idx"),
+                Arguments.of("findByItemOwnerIdAndStatusAfter", "items_owner_idx"),
+                Arguments.of("findNextBookingForItem", "bookings_item_status_start_idx"),
+                Arguments.of("findLastBookingForItem", "bookings_item_status_ended_idx"),
+                Arguments.of("findApprovedBookingsForItemsBetween", "bookings_item_status_"),
+                Arguments.of("existsApprovedBookingsForItemBetweenDates", "bookings_item_status_"),
+                Arguments.of("findLastAndNextBookingsForOwnerItems", "items_owner_idx"));
+    }
+
+    static Stream<Arguments> entityQueries() {
+        return Stream.of(
+                Arguments.of("SELECT * FROM items WHERE owner_id = 7", "items_owner_idx"),
+                Arguments.of("SELECT * FROM items WHERE request_id IN (4, 8, 12)", "items_request_idx"),
+                Arguments.of("SELECT * FROM comments WHERE item_id IN (42, 43, 44) ORDER BY created",
+                        "comments_item_idx"),
+                Arguments.of("SELECT * FROM requests WHERE requestor_id = 7 ORDER BY started DESC",
+                        "requests_requestor_started_idx"),
+                Arguments.of("SELECT * FROM requests WHERE requestor_id <> 7 " +
+                        "ORDER BY started DESC, id DESC LIMIT 20", "requests_started_id_idx"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("bookingQueries")
+    void bookingRepositoryQueryUsesIndex(String method, String index) throws SQLException {
+        assertUsesIndex(nativeQuery(BookingRepository.class, method), index);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityQueries")
+    void derivedQueryUsesIndex(String sql, String index) throws SQLException {
+        assertUsesIndex(sql, index);
+    }
+
+    private static void assertUsesIndex(String sql, String index) throws SQLException {
+        String plan = explain(sql);
+        assertThat(plan)
+                .as("план запроса %s", sql)
+                .containsPattern("Index (Only )?Scan (Backward )?(using|on) " + index)
+                .doesNotContain("Seq Scan");
+    }
+
+    private static String nativeQuery(Class<?> repository, String name) {
+        Method method = Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Нет метода " + name + " в " + repository));
+        String sql = method.getAnnotation(Query.class).value();
+
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder substituted = new StringBuilder();
+        while (matcher.find()) {
+            String value = PARAMETERS.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("Нет значения для параметра " + matcher.group() + " в " + name);
+            }
+            matcher.appendReplacement(substituted, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(substituted);
+
+        boolean pageable = Arrays.asList(method.getParameterTypes()).contains(Pageable.class);
+        if (pageable && !sql.contains("LIMIT")) {
+            substituted.append(" LIMIT 20");
+        }
+        return substituted.toString();
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            StringJoiner plan = new StringJoiner("\n");
+            while (rows.next()) {
+                plan.add(rows.getString(1));
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(EmbeddedDatabase.url(DATABASE), EmbeddedDatabase.USER,
+                EmbeddedDatabase.PASSWORD);
+    }
+}
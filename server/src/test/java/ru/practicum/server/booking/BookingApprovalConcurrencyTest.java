@@ -0,0 +1,266 @@
+package ru.practicum.server.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.dto.booking.BookingApprovalDto;
+import ru.practicum.dto.booking.BookingApprovalResultDto;
+import ru.practicum.dto.booking.RequestBookingDto;
+import ru.practicum.dto.booking.status.Status;
+import ru.practicum.dto.exception.ValidationException;
+import ru.practicum.dto.item.ItemDto;
+import ru.practicum.dto.user.UserDto;
+import ru.practicum.server.EmbeddedDatabase;
+import ru.practicum.server.booking.model.Booking;
+import ru.practicum.server.booking.repository.BookingRepository;
+import ru.practicum.server.item.ItemService;
+import ru.practicum.server.user.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "shareit.booking.range-types=false")
+class BookingApprovalConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int BOOKINGS = 200;
+    private static final int ITEMS = 32;
+    private static final int BOOKINGS_PER_ITEM = 4;
+    private static final int BATCHES = 400;
+    private static final int ITEMS_PER_BATCH = 3;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedDatabase.register(registry, "booking_approval");
+    }
+
+    @Nested
+    @TestPropertySource(properties = "shareit.booking.lock=striped")
+    class StripedLock extends ApprovalRace {
+    }
+
+    @Nested
+    @TestPropertySource(properties = {"shareit.booking.lock=striped", "shareit.booking.lock-stripes=4"})
+    class StripedLockWithFewStripes extends ApprovalRace {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "shareit.booking.lock=advisory")
+    class AdvisoryLock extends ApprovalRace {
+    }
+
+    abstract class ApprovalRace {
+
+        @Autowired
+        UserService userService;
+        @Autowired
+        ItemService itemService;
+        @Autowired
+        BookingService bookingService;
+        @Autowired
+        BookingRepository bookingRepository;
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void hotItemGetsExactlyOneApprovedBooking() throws Exception {
+            Long owner = user();
+            Long booker = user();
+            Long item = item(owner);
+            LocalDateTime start = tomorrow();
+            List<Long> bookings = IntStream.range(0, BOOKINGS)
+                    .mapToObj(i -> booking(item, booker, start.plusHours(i % 24), start.plusDays(2)))
+                    .toList();
+
+            RaceResult result = race(bookings, id -> bookingService.approve(id, true, owner));
+            log.info("Одна вещь, {} подтверждений в {} потоков: {} оп/с", BOOKINGS, THREADS, result.throughput());
+
+            assertThat(result.approved()).isEqualTo(1);
+            assertThat(result.conflicts()).isEqualTo(BOOKINGS - 1);
+            assertThat(bookingRepository.findAllById(bookings))
+                    .filteredOn(booking -> booking.getStatus() == Status.APPROVED)
+                    .hasSize(1);
+        }
+
+        @Test
+        void unrelatedItemsAreAllApproved() throws Exception {
+            Long owner = user();
+            Long booker = user();
+            LocalDateTime start = tomorrow();
+            List<Long> bookings = IntStream.range(0, BOOKINGS)
+                    .mapToObj(i -> booking(item(owner), booker, start, start.plusDays(2)))
+                    .toList();
+
+            RaceResult result = race(bookings, id -> bookingService.approve(id, true, owner));
+            log.info("{} разных вещей, {} потоков: {} оп/с", BOOKINGS, THREADS, result.throughput());
+
+            assertThat(result.approved()).isEqualTo(BOOKINGS);
+            assertThat(bookingRepository.findAllById(bookings))
+                    .extracting(Booking::getStatus)
+                    .containsOnly(Status.APPROVED);
+        }
+
+        @Test
+        void overlappingBatchesApproveOneBookingPerItem() throws Exception {
+            Long owner = user();
+            Long booker = user();
+            LocalDateTime start = tomorrow();
+            Map<Long, List<Long>> bookingsByItem = new LinkedHashMap<>();
+            for (int i = 0; i < ITEMS; i++) {
+                Long item = item(owner);
+                bookingsByItem.put(item, IntStream.range(0, BOOKINGS_PER_ITEM)
+                        .mapToObj(j -> booking(item, booker, start.plusHours(j), start.plusDays(2)))
+                        .toList());
+            }
+            List<Long> bookings = bookingsByItem.values().stream().flatMap(List::stream).toList();
+
+            Random random = new Random(42);
+            List<Long> items = new ArrayList<>(bookingsByItem.keySet());
+            List<List<BookingApprovalDto>> batches = new ArrayList<>();
+            for (int i = 0; i < BATCHES; i++) {
+                Collections.shuffle(items, random);
+                batches.add(items.subList(0, ITEMS_PER_BATCH).stream()
+                        .flatMap(item -> bookingsByItem.get(item).stream())
+                        .map(id -> new BookingApprovalDto(id, true))
+                        .toList());
+            }
+            batches.add(bookings.stream().map(id -> new BookingApprovalDto(id, true)).toList());
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<List<BookingApprovalResultDto>>> outcomes = batches.stream()
+                        .map(batch -> executor.submit(() -> bookingService.approveAll(batch, owner)))
+                        .toList();
+                for (Future<List<BookingApprovalResultDto>> outcome : outcomes) {
+                    outcome.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            bookingsByItem.forEach((item, itemBookings) ->
+                    assertThat(bookingRepository.findAllById(itemBookings))
+                            .filteredOn(booking -> booking.getStatus() == Status.APPROVED)
+                            .as("подтверждённые бронирования вещи %d", item)
+                            .hasSize(1));
+        }
+
+        @Test
+        void startedBookingIsReportedInItsEntry() {
+            Long owner = user();
+            Long booker = user();
+            LocalDateTime start = tomorrow();
+            Long started = booking(item(owner), booker, start, start.plusDays(2));
+            Long waiting = booking(item(owner), booker, start, start.plusDays(2));
+            jdbcTemplate.update("UPDATE bookings SET start = start - INTERVAL '2 days' WHERE id = ?", started);
+
+            List<BookingApprovalResultDto> results = bookingService.approveAll(List.of(
+                    new BookingApprovalDto(started, true),
+                    new BookingApprovalDto(waiting, true)), owner);
+
+            assertThat(results.get(0).getStatus()).isNull();
+            assertThat(results.get(0).getError()).isEqualTo("Дата начала бронирования уже прошла");
+            assertThat(results.get(1).getStatus()).isEqualTo(Status.APPROVED);
+        }
+
+        @Test
+        void startedBookingIsRefusedBySingleApproval() {
+            Long owner = user();
+            Long booker = user();
+            LocalDateTime start = tomorrow();
+            Long started = booking(item(owner), booker, start, start.plusDays(2));
+            jdbcTemplate.update("UPDATE bookings SET start = start - INTERVAL '2 days' WHERE id = ?", started);
+
+            assertThatThrownBy(() -> bookingService.approve(started, true, owner))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Дата начала бронирования уже прошла");
+            assertThatThrownBy(() -> bookingService.approve(started, false, owner))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Дата начала бронирования уже прошла");
+            assertThat(bookingRepository.findById(started)).get()
+                    .extracting(Booking::getStatus)
+                    .isEqualTo(Status.WAITING);
+        }
+
+        Long user() {
+            String name = UUID.randomUUID().toString();
+            return userService.create(UserDto.builder().name(name).email(name + "@shareit.test").build()).getId();
+        }
+
+        Long item(Long owner) {
+            return itemService.create(ItemDto.builder()
+                    .name("Дрель")
+                    .description("Ударная дрель")
+                    .available(true)
+                    .build(), owner).getId();
+        }
+
+        Long booking(Long item, Long booker, LocalDateTime start, LocalDateTime end) {
+            return bookingService.create(new RequestBookingDto(item, start, end), booker).getId();
+        }
+    }
+
+    private static LocalDateTime tomorrow() {
+        return LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static RaceResult race(List<Long> bookings, Consumer<Long> approve) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> outcomes = new ArrayList<>(bookings.size());
+            for (Long booking : bookings) {
+                outcomes.add(executor.submit(() -> {
+                    startGate.await();
+                    try {
+                        approve.accept(booking);
+                        return true;
+                    } catch (ValidationException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            long started = System.nanoTime();
+            startGate.countDown();
+            int approved = 0;
+            for (Future<Boolean> outcome : outcomes) {
+                if (outcome.get(1, TimeUnit.MINUTES)) {
+                    approved++;
+                }
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            return new RaceResult(approved, bookings.size() - approved, Math.round(bookings.size() / seconds));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record RaceResult(int approved, int conflicts, long throughput) {
+    }
+}
@@ -0,0 +1,116 @@
+package ru.practicum.server.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.dto.item.ItemDto;
+import ru.practicum.dto.user.UserDto;
+import ru.practicum.server.EmbeddedDatabase;
+import ru.practicum.server.user.UserService;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ItemSearchTest {
+
+    private static final int MATCHING = 25;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedDatabase.register(registry, "item_search");
+    }
+
+    @Nested
+    @TestPropertySource(properties = "shareit.item.search.engine=fulltext")
+    class FullText extends SearchScenarios {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "shareit.item.search.engine=like")
+    class Like extends SearchScenarios {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "shareit.item.search.engine=index")
+    class InvertedIndex extends SearchScenarios {
+    }
+
+    abstract class SearchScenarios {
+
+        @Autowired
+        UserService userService;
+        @Autowired
+        ItemService itemService;
+
+        String word;
+        Long owner;
+
+        @BeforeEach
+        void createItems() {
+            word = "w" + UUID.randomUUID().toString().replace("-", "");
+            owner = user();
+            for (int i = 0; i < MATCHING; i++) {
+                item(owner, "Дрель " + word, i % 2 == 0);
+            }
+            item(owner, "Молоток", true);
+        }
+
+        @Test
+        void returnsEverythingWhenPagingIsAbsent() {
+            assertThat(itemService.searchItem(word, owner, null, null))
+                    .hasSize((MATCHING + 1) / 2)
+                    .allMatch(ItemDto::getAvailable);
+        }
+
+        @Test
+        void pagesByOffsetNotByPageNumber() {
+            List<Long> all = ids(itemService.searchItem(word, owner, null, null));
+
+            assertThat(ids(itemService.searchItem(word, owner, 3, 5))).isEqualTo(all.subList(3, 8));
+            assertThat(ids(itemService.searchItem(word, owner, 10, 100))).isEqualTo(all.subList(10, all.size()));
+        }
+
+        @Test
+        void skipsItemsOfDeletedOwnersBeforePaging() {
+            String saw = "w" + UUID.randomUUID().toString().replace("-", "");
+            Long deleted = user();
+            for (int i = 0; i < MATCHING; i++) {
+                item(deleted, "Пила " + saw, true);
+            }
+            for (int i = 0; i < 5; i++) {
+                item(owner, "Пила " + saw, true);
+            }
+            userService.deleteUserById(deleted);
+
+            assertThat(itemService.searchItem(saw, owner, 0, 5))
+                    .hasSize(5)
+                    .extracting(ItemDto::getOwner)
+                    .containsOnly(owner);
+        }
+
+        Long user() {
+            String name = UUID.randomUUID().toString();
+            return userService.create(UserDto.builder().name(name).email(name + "@shareit.test").build()).getId();
+        }
+
+        void item(Long owner, String name, boolean available) {
+            itemService.create(ItemDto.builder()
+                    .name(name)
+                    .description("Описание")
+                    .available(available)
+                    .build(), owner);
+        }
+
+        List<Long> ids(List<ItemDto> items) {
+            return items.stream().map(ItemDto::getId).toList();
+        }
+    }
+}